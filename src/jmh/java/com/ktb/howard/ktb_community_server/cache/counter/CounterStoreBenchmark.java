@@ -0,0 +1,66 @@
+package com.ktb.howard.ktb_community_server.cache.counter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 기존 ConcurrentHashMap<Long, AtomicLong> 카운터와 StripedLongCounterTable의 증가 처리량 비교
+// 전체 증가 요청의 절반은 소수의 인기 게시글에, 나머지는 다수의 게시글에 분산되도록 구성
+// 스레드 수에 따른 경합 차이를 보려면 스레드 수 이상의 코어를 가진 환경에서 실행해야 한다.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public abstract class CounterStoreBenchmark {
+
+    private static final int POST_COUNT = 100_000;
+    private static final int HOT_POST_COUNT = 8;
+
+    private Map<Long, AtomicLong> map;
+    private StripedLongCounterTable table;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        map = new ConcurrentHashMap<>();
+        table = new StripedLongCounterTable(POST_COUNT);
+        for (long postId = 0; postId < POST_COUNT; postId++) {
+            map.put(postId, new AtomicLong());
+            table.add(postId, 0);
+        }
+    }
+
+    @Benchmark
+    public void concurrentHashMap() {
+        map.computeIfAbsent(nextPostId(), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Benchmark
+    public void stripedTable() {
+        table.add(nextPostId(), 1);
+    }
+
+    private static long nextPostId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.nextBoolean() ? random.nextInt(HOT_POST_COUNT) : random.nextInt(POST_COUNT);
+    }
+
+    @Threads(1)
+    public static class Threads1 extends CounterStoreBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends CounterStoreBenchmark {
+    }
+
+    @Threads(16)
+    public static class Threads16 extends CounterStoreBenchmark {
+    }
+
+    @Threads(64)
+    public static class Threads64 extends CounterStoreBenchmark {
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.ktb.howard.ktb_community_server.cache.counter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// long 키 -> 카운터를 저장하는 open addressing 해시 테이블
+// - 키를 primitive long 배열에 저장하므로, 증감 시 Long 박싱과 ConcurrentHashMap 노드를 만들지 않는다.
+// - 값은 LongAdder로 두어, 조회가 몰리는 게시글의 증감이 하나의 값에 대한 CAS로 모이지 않고 셀로 나뉜다.
+// - ConcurrentHashMap<Long, AtomicLong> 대비 처리량은 측정되지 않았으며, CounterStoreBenchmark로 운영 환경에서 확인해야 한다.
+// - 이미 등록된 키의 증감은 락 없이 처리되고, 새 키 등록과 테이블 확장만 세그먼트 락을 사용한다.
+// - 키 삭제는 지원하지 않으므로, 주기적으로 새 테이블로 교체하여 사용한다.
+public final class StripedLongCounterTable {
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long key, long value);
+    }
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int SEGMENT_MASK = SEGMENT_COUNT - 1;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public StripedLongCounterTable() {
+        this(1024);
+    }
+
+    public StripedLongCounterTable(int expectedSize) {
+        int perSegment = Math.max(expectedSize / SEGMENT_COUNT, 4);
+        // 부하율을 0.5 이하로 유지하도록 2의 거듭제곱 크기로 맞춤
+        int capacity = Integer.highestOneBit(perSegment * 2 - 1) << 1;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    public void add(long key, long delta) {
+        int hash = mix(key);
+        Segment segment = segments[hash & SEGMENT_MASK];
+        LongAdder cell = segment.find(key, hash);
+        if (cell == null) {
+            cell = segment.findOrInsert(key, hash);
+        }
+        cell.add(delta);
+    }
+
+    public long get(long key) {
+        int hash = mix(key);
+        LongAdder cell = segments[hash & SEGMENT_MASK].find(key, hash);
+        return cell == null ? 0L : cell.sum();
+    }
+
+    // 등록된 키 수 (값이 0이 된 키도 포함)
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    // 값이 0이 아닌 키만 순회. 동시에 갱신되는 경우 각 키의 값은 순회 시점의 근사값이다.
+    public void forEachNonZero(Visitor visitor) {
+        for (Segment segment : segments) {
+            Table table = segment.table;
+            for (int i = 0; i < table.cells.length(); i++) {
+                LongAdder cell = table.cells.get(i);
+                if (cell == null) {
+                    continue;
+                }
+                long value = cell.sum();
+                if (value != 0) {
+                    visitor.visit(table.keys[i], value);
+                }
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Table {
+
+        // keys[i]는 cells[i]가 설정되기 전에 기록되므로, cells[i]를 읽은 뒤에는 keys[i]를 안전하게 읽을 수 있다.
+        private final long[] keys;
+        private final AtomicReferenceArray<LongAdder> cells;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.cells = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        private LongAdder find(long key, int hash) {
+            int index = (hash >>> 4) & mask;
+            while (true) {
+                LongAdder cell = cells.get(index);
+                if (cell == null) {
+                    return null;
+                }
+                if (keys[index] == key) {
+                    return cell;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private void insert(long key, int hash, LongAdder cell) {
+            int index = (hash >>> 4) & mask;
+            while (cells.get(index) != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            cells.set(index, cell);
+        }
+
+    }
+
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Table table;
+        private volatile int size;
+
+        private Segment(int capacity) {
+            this.table = new Table(capacity);
+        }
+
+        private LongAdder find(long key, int hash) {
+            return table.find(key, hash);
+        }
+
+        private LongAdder findOrInsert(long key, int hash) {
+            lock.lock();
+            try {
+                LongAdder cell = table.find(key, hash);
+                if (cell != null) {
+                    return cell;
+                }
+                if ((size + 1) * 2 > table.cells.length()) {
+                    resize();
+                }
+                cell = new LongAdder();
+                table.insert(key, hash, cell);
+                size++;
+                return cell;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 기존 LongAdder 객체를 그대로 옮기므로, 확장 도중 이전 테이블에서 셀을 얻은 스레드의 증감도 유실되지 않는다.
+        private void resize() {
+            Table old = table;
+            Table resized = new Table(old.cells.length() << 1);
+            for (int i = 0; i < old.cells.length(); i++) {
+                LongAdder cell = old.cells.get(i);
+                if (cell != null) {
+                    long key = old.keys[i];
+                    resized.insert(key, mix(key), cell);
+                }
+            }
+            table = resized;
+        }
+
+    }
+
+}
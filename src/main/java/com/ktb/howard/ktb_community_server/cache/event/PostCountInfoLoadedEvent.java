@@ -0,0 +1,15 @@
+package com.ktb.howard.ktb_community_server.cache.event;
+
+import com.ktb.howard.ktb_community_server.post.dto.CountInfoDto;
+import com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn;
+
+import java.util.List;
+
+// 한 카운트 캐시가 DB에서 읽어 온 게시글 카운트 정보를 다른 카운트 캐시에도 채우기 위한 이벤트
+// countInfos는 loadStartedNanos 이후에 시작한 새 트랜잭션에서 읽은 값이므로, 그 이전에 커밋된 DB 반영은 모두 포함한다.
+// loadStartedNanos 이후에 DB 반영이 커밋된 캐시는 조회한 값이 오래되었을 수 있으므로 채우지 않는다.
+public record PostCountInfoLoadedEvent(
+        CountColumn loadedBy,
+        List<CountInfoDto> countInfos,
+        long loadStartedNanos
+) { }
@@ -0,0 +1,394 @@
+package com.ktb.howard.ktb_community_server.cache.journal;
+
+import com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// 캐시에 쌓인 카운트 변화량을 DB에 반영하기 전까지 보관하는 append-only 저널
+// 변화량은 컬럼별 epoch마다의 구간(Batch)에 기록하고, 구간이 모두 DB에 반영되면 그 구간의 세그먼트를 비워서 다시 사용한다.
+// 세그먼트는 메모리에 매핑하여 기록하고, 전용 스레드에서 주기적으로 한 번에 디스크에 동기화(group fsync)한다.
+// 서버 시작 시 남아 있는 세그먼트를 다시 읽어 복원한다. (at-least-once)
+// 동기화는 chunk마다 커밋하고 모든 chunk가 커밋된 뒤에 구간을 비우므로, 그 사이에 종료되면 커밋된 chunk의 변화량이 다시 더해진다.
+// 이 구간은 실패한 chunk가 다음 동기화에서 반영될 때까지 이어지며, app.cache.count.flush-chunk-size를 변경된 게시글 수보다 크게 두면
+// 컬럼마다 한 번에 커밋되어 커밋과 구간 비우기 사이로 줄어든다.
+@Slf4j
+@Component
+public class CountDeltaJournal {
+
+    @FunctionalInterface
+    public interface ReplayHandler {
+        void replay(long postId, long delta);
+    }
+
+    // 한 epoch 동안의 변화량을 기록하는 구간
+    public interface Batch {
+
+        void append(long postId, long delta);
+
+        // 구간의 변화량이 모두 DB에 커밋된 이후 호출하여 세그먼트를 삭제
+        void release();
+
+    }
+
+    // [column(1)][postId(8)][delta(8)][crc(4)] - column이 0인 슬롯은 비어 있거나 기록이 끝나지 않은 슬롯
+    private static final int RECORD_SIZE = 21;
+    // 세그먼트 파일 이름 : count-delta-{컬럼}-{세그먼트 ID}.journal
+    private static final String SEGMENT_PREFIX = "count-delta-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    // 비워서 다시 사용할 세그먼트 파일 이름 : count-free-{세그먼트 ID}.journal (복원 대상이 아님)
+    private static final String FREE_SEGMENT_PREFIX = "count-free-";
+    // 다시 사용하기 위해 보관하는 빈 세그먼트 수의 상한
+    private static final int MAX_FREE_SEGMENTS = 3;
+    private static final byte[] ZEROS = new byte[4096];
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<Path> recoveredSegments;
+    // 아직 삭제되지 않은 구간. 주기적인 동기화 대상이다.
+    private final Set<SegmentBatch> openBatches = ConcurrentHashMap.newKeySet();
+    private final Queue<Segment> freeSegments = new ConcurrentLinkedQueue<>();
+    private final AtomicLong nextSegmentId;
+    private final ScheduledExecutorService syncExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "count-journal-fsync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CountDeltaJournal(
+            @Value("${app.cache.journal.dir:./data/count-journal}") String directory,
+            @Value("${app.cache.journal.segment-size-bytes:8388608}") int segmentSize,
+            @Value("${app.cache.journal.fsync-interval-ms:100}") long fsyncIntervalMs
+    ) throws IOException {
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        Files.createDirectories(this.directory);
+        // 비우는 도중 종료되었을 수 있는 빈 세그먼트는 다시 사용하지 않고 삭제
+        try (Stream<Path> files = Files.list(this.directory)) {
+            files.filter(f -> f.getFileName().toString().startsWith(FREE_SEGMENT_PREFIX)).forEach(this::delete);
+        }
+        try (Stream<Path> files = Files.list(this.directory)) {
+            this.recoveredSegments = files
+                    .filter(CountDeltaJournal::isSegment)
+                    .sorted(Comparator.comparingLong(CountDeltaJournal::segmentId))
+                    .toList();
+        }
+        this.nextSegmentId = new AtomicLong(recoveredSegments.isEmpty() ? 1 : segmentId(recoveredSegments.getLast()) + 1);
+        syncExecutor.scheduleWithFixedDelay(this::sync, fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("CountDeltaJournal 시작 : dir={}, recoveredSegments={}, fsyncInterval={}ms",
+                this.directory, recoveredSegments.size(), fsyncIntervalMs);
+    }
+
+    // 새 epoch가 변화량을 기록할 구간. 세그먼트는 첫 기록 시점에 열므로 변화량이 없는 epoch는 파일을 만들지 않는다.
+    public Batch newBatch(CountColumn column) {
+        SegmentBatch batch = new SegmentBatch(column);
+        openBatches.add(batch);
+        return batch;
+    }
+
+    // 서버 시작 시 남아 있는 해당 컬럼의 세그먼트에서 변화량을 읽어 handler로 전달
+    // 읽은 세그먼트는 하나의 구간으로 반환하며, 복원한 변화량이 DB에 반영된 이후 삭제해야 한다.
+    public Batch replay(CountColumn column, ReplayHandler handler) {
+        byte type = typeOf(column);
+        long replayed = 0;
+        SegmentBatch recovered = new SegmentBatch(column);
+        for (Path segment : recoveredSegments) {
+            if (columnOf(segment) != column) {
+                continue;
+            }
+            recovered.segments.add(new Segment(segment, null, null));
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                for (int pos = 0; pos + RECORD_SIZE <= buffer.limit(); pos += RECORD_SIZE) {
+                    if (buffer.get(pos) != type) {
+                        continue;
+                    }
+                    long postId = buffer.getLong(pos + 1);
+                    long delta = buffer.getLong(pos + 9);
+                    if (buffer.getInt(pos + 17) != checksum(type, postId, delta)) {
+                        log.warn("CountDeltaJournal 손상된 레코드 무시 : segment={}, position={}", segment, pos);
+                        continue;
+                    }
+                    handler.replay(postId, delta);
+                    replayed++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        log.info("CountDeltaJournal 복원 : column={}, segments={}, records={}", column, recovered.segments.size(), replayed);
+        return recovered;
+    }
+
+    // 주기적으로 한 번에 디스크에 동기화(group fsync)
+    // 예외로 주기 실행이 멈추지 않도록 실패는 기록만 하고 다음 주기에 다시 동기화한다.
+    void sync() {
+        try {
+            openBatches.forEach(batch -> batch.segments.forEach(Segment::forceIfWritten));
+        } catch (RuntimeException e) {
+            log.error("CountDeltaJournal 동기화 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        syncExecutor.shutdown();
+        try {
+            if (!syncExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+                log.warn("CountDeltaJournal 동기화 스레드 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        openBatches.forEach(batch -> batch.segments.forEach(s -> {
+            s.force();
+            s.close();
+        }));
+        freeSegments.forEach(Segment::close);
+    }
+
+    // 빈 세그먼트가 있으면 이름만 바꿔 다시 사용
+    private Segment openSegment(CountColumn column) {
+        long id = nextSegmentId.getAndIncrement();
+        Path path = directory.resolve(SEGMENT_PREFIX + column.name() + "-" + id + SEGMENT_SUFFIX);
+        Segment free = freeSegments.poll();
+        if (free != null) {
+            try {
+                Files.move(free.path, path, StandardCopyOption.ATOMIC_MOVE);
+                return new Segment(path, free.channel, free.buffer);
+            } catch (IOException e) {
+                log.error("CountDeltaJournal 빈 세그먼트 재사용 실패 : {}", free.path, e);
+                free.close();
+                delete(free.path);
+            }
+        }
+        try {
+            FileChannel channel = FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+            );
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            return new Segment(path, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 변화량이 모두 반영된 세그먼트는 먼저 빈 세그먼트 이름으로 바꿔 복원 대상에서 제외한 뒤,
+    // 동기화 스레드에서 기록된 범위를 비우고 디스크에 반영한 다음에 다시 사용
+    private void recycle(Segment segment) {
+        if (segment.buffer == null || freeSegments.size() >= MAX_FREE_SEGMENTS) {
+            segment.close();
+            delete(segment.path);
+            return;
+        }
+        Path freePath = directory.resolve(FREE_SEGMENT_PREFIX + nextSegmentId.getAndIncrement() + SEGMENT_SUFFIX);
+        try {
+            Files.move(segment.path, freePath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("CountDeltaJournal 세그먼트 이름 변경 실패 : {}", segment.path, e);
+            segment.close();
+            delete(segment.path);
+            return;
+        }
+        Segment free = new Segment(freePath, segment.channel, segment.buffer);
+        int written = Math.min(segment.position.get(), segmentSize);
+        try {
+            syncExecutor.execute(() -> {
+                free.clear(written);
+                freeSegments.add(free);
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 다시 사용하지 않음
+            free.close();
+        }
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.error("CountDeltaJournal 세그먼트 삭제 실패 : {}", path, e);
+        }
+    }
+
+    private static byte typeOf(CountColumn column) {
+        return (byte) (column.ordinal() + 1);
+    }
+
+    private static int checksum(byte type, long postId, long delta) {
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (postId >>> shift));
+        }
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (delta >>> shift));
+        }
+        return (int) crc.getValue();
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return false;
+        }
+        try {
+            columnOf(path);
+            segmentId(path);
+            return true;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("CountDeltaJournal 형식이 다른 파일 무시 : {}", path);
+            return false;
+        }
+    }
+
+    private static CountColumn columnOf(Path path) {
+        String name = segmentName(path);
+        return CountColumn.valueOf(name.substring(0, name.lastIndexOf('-')));
+    }
+
+    private static long segmentId(Path path) {
+        String name = segmentName(path);
+        return Long.parseLong(name.substring(name.lastIndexOf('-') + 1));
+    }
+
+    private static String segmentName(Path path) {
+        String name = path.getFileName().toString();
+        return name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+    }
+
+    private final class SegmentBatch implements Batch {
+
+        private final CountColumn column;
+        private final byte type;
+        private final List<Segment> segments = new CopyOnWriteArrayList<>();
+        private volatile Segment active;
+
+        private SegmentBatch(CountColumn column) {
+            this.column = column;
+            this.type = typeOf(column);
+        }
+
+        // 기록할 위치를 원자적으로 예약한 뒤 각자 위치에 기록하므로, 기록하는 스레드끼리 락을 잡지 않는다.
+        @Override
+        public void append(long postId, long delta) {
+            while (true) {
+                Segment segment = active;
+                if (segment == null) {
+                    extend(null);
+                    continue;
+                }
+                int pos = segment.position.getAndAdd(RECORD_SIZE);
+                if (pos + RECORD_SIZE <= segmentSize) {
+                    MappedByteBuffer buffer = segment.buffer;
+                    buffer.putLong(pos + 1, postId);
+                    buffer.putLong(pos + 9, delta);
+                    buffer.putInt(pos + 17, checksum(type, postId, delta));
+                    buffer.put(pos, type); // 컬럼 값을 마지막에 기록하여, 기록 중 종료된 레코드는 빈 슬롯으로 취급
+                    return;
+                }
+                extend(segment);
+            }
+        }
+
+        @Override
+        public void release() {
+            openBatches.remove(this);
+            segments.forEach(CountDeltaJournal.this::recycle);
+        }
+
+        // 여러 스레드가 동시에 첫 기록을 하거나 세그먼트 끝에 도달해도 한 번만 새 세그먼트를 엶
+        private synchronized void extend(Segment full) {
+            if (active == full) {
+                Segment next = openSegment(column);
+                segments.add(next);
+                active = next;
+            }
+        }
+
+    }
+
+    private final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger position = new AtomicInteger();
+        // 동기화 스레드에서만 접근
+        private int syncedPosition;
+        private boolean settled = true;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        // 마지막 동기화 이후 새로 예약된 위치가 있으면 동기화
+        // 위치 예약 직후 아직 기록 중이던 레코드도 디스크에 남도록, 변화가 멈춘 뒤 한 번 더 동기화한다.
+        private void forceIfWritten() {
+            int reserved = Math.min(position.get(), segmentSize);
+            if (reserved != syncedPosition || !settled) {
+                settled = reserved == syncedPosition;
+                syncedPosition = reserved;
+                force();
+            }
+        }
+
+        private void force() {
+            if (buffer == null) {
+                return;
+            }
+            buffer.force();
+        }
+
+        // 다시 사용한 세그먼트에서 이전 기록이 복원되지 않도록 기록된 범위를 비우고 디스크에 반영
+        private void clear(int written) {
+            for (int pos = 0; pos < written; pos += ZEROS.length) {
+                buffer.put(pos, ZEROS, 0, Math.min(ZEROS.length, written - pos));
+            }
+            buffer.force();
+        }
+
+        private void close() {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("CountDeltaJournal 세그먼트 닫기 실패 : {}", path, e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,260 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ktb.howard.ktb_community_server.cache.event.PostCountInfoLoadedEvent;
+import com.ktb.howard.ktb_community_server.cache.journal.CountDeltaJournal;
+import com.ktb.howard.ktb_community_server.post.dto.CountInfoDto;
+import com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn;
+import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 게시글 카운트 컬럼 하나의 캐시. DB에 반영된 기준값에 아직 반영되지 않은 변화량을 더해 반환
+// 캐시 미스는 호출한 쪽과 분리된 새 트랜잭션에서 한 번만 조회 (single-flight)
+@Slf4j
+public class CountCache {
+
+    private final String name;
+    private final CountColumn column;
+    private final AsyncCache<Long, Long> cache;
+    private final PendingCountDeltas pendingDeltas;
+    private final PostRepository postRepository;
+    private final TransactionTemplate loadTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CountCache(
+            String name,
+            CountColumn column,
+            PostRepository postRepository,
+            CountDeltaJournal countDeltaJournal,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            long maximumSize
+    ) {
+        this.name = name;
+        this.column = column;
+        this.postRepository = postRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTransaction.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+        this.pendingDeltas = new PendingCountDeltas(() -> countDeltaJournal.newBatch(column));
+        // 비정상 종료로 DB에 반영되지 못한 변화량을 저널에서 복원
+        pendingDeltas.retainUntilFlushed(countDeltaJournal.replay(column, pendingDeltas::restore));
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .removalListener((Long postId, Long count, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        log.debug("{} 데이터 축출 : postId={}, cause={}", name, postId, cause);
+                    }
+                })
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), name);
+    }
+
+    public CountColumn getColumn() {
+        return column;
+    }
+
+    public Long get(Long postId) {
+        CompletableFuture<Long> created = new CompletableFuture<>();
+        CompletableFuture<Long> base = cache.get(postId, (k, executor) -> created);
+        if (base == created) {
+            // 이 스레드가 등록한 Future인 경우에만 DB를 조회하여 완료
+            load(Map.of(postId, created));
+        }
+        return join(base) + pendingDeltas.get(postId);
+    }
+
+    // 캐시에 없으면 DB를 조회하지 않고 null을 반환
+    public Long getIfPresent(Long postId) {
+        CompletableFuture<Long> base = cache.asMap().get(postId);
+        if (base == null || !base.isDone() || base.isCompletedExceptionally()) {
+            return null;
+        }
+        return base.join() + pendingDeltas.get(postId);
+    }
+
+    public boolean hasPendingDelta(Long postId) {
+        return pendingDeltas.get(postId) != 0;
+    }
+
+    // 캐시에 없는 게시글은 IN 쿼리 한 번으로 적재
+    public Map<Long, Long> getAll(Collection<Long> postIds) {
+        Map<Long, CompletableFuture<Long>> bases = new HashMap<>();
+        Map<Long, CompletableFuture<Long>> owned = new HashMap<>();
+        for (Long postId : postIds) {
+            CompletableFuture<Long> created = new CompletableFuture<>();
+            CompletableFuture<Long> base = cache.get(postId, (k, executor) -> created);
+            if (base == created) {
+                owned.put(postId, created);
+            }
+            bases.put(postId, base);
+        }
+        if (!owned.isEmpty()) {
+            load(owned);
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        bases.forEach((postId, base) -> counts.put(postId, join(base) + pendingDeltas.get(postId)));
+        return counts;
+    }
+
+    // loadStartedNanos 이후에 시작한 새 트랜잭션에서 읽은 값으로 캐시에 없는 게시글만 채움
+    // 그 사이 DB 반영이 커밋되었으면 값이 오래되었을 수 있으므로 채우지 않는다.
+    public void safePutAll(List<CountInfoDto> countInfos, long loadStartedNanos) {
+        pendingDeltas.runIfNotFlushedSince(loadStartedNanos, () -> countInfos.forEach(
+                i -> cache.asMap().putIfAbsent(i.postId(), CompletableFuture.completedFuture(extract(i)))
+        ));
+    }
+
+    // 다른 카운트 캐시가 DB에서 읽어 온 값으로 캐시 채우기
+    @EventListener
+    public void onPostCountInfoLoaded(PostCountInfoLoadedEvent event) {
+        if (event.loadedBy() != column) {
+            safePutAll(event.countInfos(), event.loadStartedNanos());
+        }
+    }
+
+    public void increaseCount(Long postId) {
+        log.info("{} 카운트 증가 : postId={}", name, postId);
+        pendingDeltas.add(postId, 1);
+    }
+
+    public void decreaseCount(Long postId) {
+        log.info("{} 카운트 감소 : postId={}", name, postId);
+        pendingDeltas.add(postId, -1);
+    }
+
+    public void safePut(Long postId, Long count) {
+        cache.asMap().putIfAbsent(postId, CompletableFuture.completedFuture(count));
+    }
+
+    // 아직 DB에 반영되지 않은 변화량을 제외한 값을 기준값으로 저장
+    public void forcePut(Long postId, Long count) {
+        log.info("{} 강제갱신 : postId={}, count={}", name, postId, count);
+        cache.put(postId, CompletableFuture.completedFuture(count - pendingDeltas.get(postId)));
+    }
+
+    // readStartedNanos 이후에 읽은 실제 값으로 기준값을 바로잡고, 바로잡은 경우에만 이전 값을 반환
+    // 그 사이 DB 반영이 커밋되었거나 반영되지 않은 변화량이 있으면 바꾸지 않음
+    public Long correct(Long postId, long count, long readStartedNanos) {
+        AtomicReference<Long> corrected = new AtomicReference<>();
+        pendingDeltas.runIfNotFlushedSince(readStartedNanos, () -> {
+            if (pendingDeltas.get(postId) != 0) {
+                return;
+            }
+            cache.asMap().computeIfPresent(postId, (k, current) -> {
+                if (!current.isDone() || current.isCompletedExceptionally() || current.join() == count) {
+                    return current;
+                }
+                corrected.set(current.join());
+                return CompletableFuture.completedFuture(count);
+            });
+        });
+        if (corrected.get() != null) {
+            log.info("{} 보정 : postId={}, previous={}, count={}", name, postId, corrected.get(), count);
+        }
+        return corrected.get();
+    }
+
+    public void remove(Long postId) {
+        if (cache.asMap().remove(postId) != null) {
+            log.info("{} 데이터 제거 : postId={}", name, postId);
+        }
+    }
+
+    public void clearCache() {
+        log.info("{} 초기화", name);
+        cache.synchronous().invalidateAll();
+        pendingDeltas.clear();
+    }
+
+    public long getCacheSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    public int getDirtySize() {
+        return pendingDeltas.size();
+    }
+
+    public boolean hasUnflushedDeltas() {
+        return pendingDeltas.hasInFlight();
+    }
+
+    // 마지막 동기화 이후 변경된 게시글의 변화량만 반환
+    public Map<Long, Long> getPendingDeltas() {
+        return pendingDeltas.snapshot();
+    }
+
+    // writer로 변화량을 DB에 커밋한 뒤 반영된 변화량만큼 차감하고, 캐시의 기준값에 더함
+    public void flush(Map<Long, Long> flushingDeltas, Runnable writer) {
+        pendingDeltas.flush(flushingDeltas, () -> {
+            writer.run();
+            // 아직 적재 중인 기준값은 커밋 이후에 DB를 조회하므로 변화량을 더하지 않음
+            flushingDeltas.forEach((postId, delta) -> cache.asMap().computeIfPresent(
+                    postId,
+                    (k, base) -> base.isDone() ? base.thenApply(v -> v + delta) : base
+            ));
+        });
+    }
+
+    // 동기화의 커밋과 배타적으로 새 트랜잭션에서 조회하여, 커밋 직전 값이 기준값으로 적재되지 않도록 함
+    private void load(Map<Long, CompletableFuture<Long>> owned) {
+        long startedAt = System.nanoTime();
+        List<CountInfoDto> countInfos = new ArrayList<>();
+        pendingDeltas.load(() -> {
+            try {
+                countInfos.addAll(loadTransaction.execute(status -> postRepository.findPostCountInfosByIdIn(owned.keySet())));
+                countInfos.forEach(i -> owned.get(i.postId()).complete(extract(i)));
+                // 존재하지 않는 게시글은 0으로 적재
+                owned.values().forEach(f -> f.complete(0L));
+            } catch (RuntimeException e) {
+                owned.values().forEach(f -> f.completeExceptionally(e));
+            }
+        });
+        if (!countInfos.isEmpty()) {
+            // 같은 행에서 읽은 다른 컬럼의 카운트로 다른 카운트 캐시도 채움
+            eventPublisher.publishEvent(new PostCountInfoLoadedEvent(column, countInfos, startedAt));
+        }
+    }
+
+    private long extract(CountInfoDto countInfo) {
+        return switch (column) {
+            case LIKE_COUNT -> countInfo.likeCount().longValue();
+            case VIEW_COUNT -> countInfo.viewCount();
+            case COMMENT_COUNT -> countInfo.commentCount();
+        };
+    }
+
+    private static long join(CompletableFuture<Long> base) {
+        try {
+            return base.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import com.ktb.howard.ktb_community_server.post.dto.GetPostsResponseDto;
+import com.ktb.howard.ktb_community_server.transaction.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+public class FeedFirstPageCacheRepository {
+
+    // 게시글 목록 첫 페이지의 불변 스냅샷
+    // 좋아요, 조회 수는 스냅샷 값을 사용하지 않고 조회 시점에 카운트 캐시의 값을 덮어써서 반환한다.
+    public record Snapshot(List<GetPostsResponseDto> posts, Boolean hasMore, Instant expiresAt) {
+
+        public boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+
+    }
+
+    @Value("${app.cache.feed.first-page-size:50}")
+    private int capacity;
+    @Value("${app.cache.feed.ttl-sec:60}")
+    private long ttlSec;
+
+    private volatile Snapshot snapshot;
+    // 스냅샷을 만드는 도중 무효화가 일어난 경우, 오래된 결과가 저장되지 않도록 버전으로 구분
+    private long version;
+
+    public boolean isCacheable(int size) {
+        return size <= capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Optional<Snapshot> find() {
+        Snapshot current = snapshot;
+        if (current == null || current.isExpired()) {
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    public synchronized long currentVersion() {
+        return version;
+    }
+
+    public synchronized Snapshot store(long loadedVersion, List<GetPostsResponseDto> posts, boolean hasMore) {
+        Snapshot loaded = new Snapshot(List.copyOf(posts), hasMore, Instant.now().plus(Duration.ofSeconds(ttlSec)));
+        if (loadedVersion == version) {
+            snapshot = loaded;
+            log.info("FeedFirstPageCache 갱신 : size={}", posts.size());
+        }
+        return loaded;
+    }
+
+    // 커밋 이전에 반영하면 다른 요청이 커밋 전 데이터로 스냅샷을 다시 만들 수 있으므로 커밋 이후에 반영
+    public void patchTitle(Long postId, String title) {
+        TransactionCallbacks.afterCommit(() -> replaceSnapshot(postId, title));
+    }
+
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(this::evict);
+    }
+
+    private synchronized void replaceSnapshot(Long postId, String title) {
+        version++;
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        List<GetPostsResponseDto> patched = current.posts().stream()
+                .map(p -> p.postId().equals(postId) ? p.withTitle(title) : p)
+                .toList();
+        snapshot = new Snapshot(patched, current.hasMore(), current.expiresAt());
+        log.info("FeedFirstPageCache 제목 갱신 : postId={}", postId);
+    }
+
+    private synchronized void evict() {
+        version++;
+        if (snapshot != null) {
+            snapshot = null;
+            log.info("FeedFirstPageCache 무효화");
+        }
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import com.ktb.howard.ktb_community_server.cache.counter.StripedLongCounterTable;
+import com.ktb.howard.ktb_community_server.cache.journal.CountDeltaJournal.Batch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// DB에 아직 반영되지 않은 게시글별 카운트 변화량. 동기화 시 현재 epoch를 봉인하여 inFlight로 옮긴다.
+class PendingCountDeltas {
+
+    // 저널 없이 사용하는 경우의 구간
+    private static final Batch NO_JOURNAL = new Batch() {
+        @Override
+        public void append(long postId, long delta) {
+        }
+
+        @Override
+        public void release() {
+        }
+    };
+
+    private final Supplier<Batch> batchOpener;
+    private volatile Epoch current;
+    // 아직 DB 반영이 끝나지 않은 봉인된 저널 구간 (flushLock 쓰기 락 안에서만 접근)
+    private final List<Batch> sealedBatches = new ArrayList<>();
+    // DB 반영을 기다리는 변화량
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+    // DB 반영과 차감 사이에 캐시 미스로 DB 값을 읽으면 변화량이 두 번 더해지므로 배타적으로 실행
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    // 마지막으로 DB 반영이 끝난 시각 (System.nanoTime 기준)
+    private volatile long lastFlushedNanos = System.nanoTime();
+
+    PendingCountDeltas() {
+        this(() -> NO_JOURNAL);
+    }
+
+    PendingCountDeltas(Supplier<Batch> batchOpener) {
+        this.batchOpener = batchOpener;
+        this.current = new Epoch(batchOpener.get(), 1024);
+    }
+
+    void add(Long postId, long delta) {
+        while (true) {
+            Epoch epoch = current;
+            epoch.enters.increment();
+            try {
+                // epoch 진입 이후 교체되지 않았음을 확인한 경우에만 해당 epoch의 테이블과 저널 구간에 기록
+                if (epoch == current) {
+                    epoch.batch.append(postId, delta);
+                    epoch.table.add(postId, delta);
+                    return;
+                }
+            } finally {
+                epoch.exits.increment();
+            }
+        }
+    }
+
+    // 저널에서 복원한 변화량은 저널을 거치지 않고 inFlight에 추가
+    void restore(long postId, long delta) {
+        merge(postId, delta);
+    }
+
+    // 복원한 변화량이 기록된 구간은 DB에 반영될 때까지 보관
+    void retainUntilFlushed(Batch recovered) {
+        flushLock.writeLock().lock();
+        try {
+            sealedBatches.add(recovered);
+            releaseIfFlushed();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    // 반영에 실패하여 DB 반영을 기다리는 변화량이 남아 있는지 여부
+    boolean hasInFlight() {
+        return !inFlight.isEmpty();
+    }
+
+    // 아직 DB에 반영되지 않은 변화량의 합
+    long get(Long postId) {
+        return current.table.get(postId) + inFlight.getOrDefault(postId, 0L);
+    }
+
+    // 현재 epoch를 저널 구간과 함께 봉인하여 inFlight로 옮긴 뒤, DB에 반영할 변화량 스냅샷을 반환
+    Map<Long, Long> snapshot() {
+        Batch next = batchOpener.get();
+        flushLock.writeLock().lock();
+        try {
+            Epoch sealed = current;
+            current = new Epoch(next, Math.max(sealed.table.size(), 1024));
+            sealed.awaitQuiescence();
+            sealed.table.forEachNonZero((postId, delta) -> merge(postId, delta));
+            sealedBatches.add(sealed.batch);
+            releaseIfFlushed();
+            return new HashMap<>(inFlight);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    // 캐시에서 밀려난 게시글을 다시 적재할 때, DB 값을 읽는 동안 동기화가 커밋되지 않도록 함
+    void load(Runnable loader) {
+        flushLock.readLock().lock();
+        try {
+            loader.run();
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    // sinceNanos 이후 커밋된 DB 반영이 없는 경우에만 action을 실행
+    void runIfNotFlushedSince(long sinceNanos, Runnable action) {
+        flushLock.readLock().lock();
+        try {
+            if (lastFlushedNanos - sinceNanos < 0) {
+                action.run();
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    // writer가 변화량을 DB에 커밋하면 곧바로 차감. writer가 실패하면 변화량은 그대로 남는다.
+    void flush(Map<Long, Long> flushing, Runnable writer) {
+        flushLock.writeLock().lock();
+        try {
+            writer.run();
+            acknowledge(flushing);
+            releaseIfFlushed();
+        } finally {
+            lastFlushedNanos = System.nanoTime();
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    // DB 반영이 커밋된 변화량만큼 차감
+    void acknowledge(Map<Long, Long> flushed) {
+        flushed.forEach((postId, delta) -> merge(postId, -delta));
+    }
+
+    // 이 카운트의 변화량과 저널 구간만 버림
+    void clear() {
+        Batch next = batchOpener.get();
+        flushLock.writeLock().lock();
+        try {
+            Epoch sealed = current;
+            current = new Epoch(next, 1024);
+            sealed.awaitQuiescence();
+            inFlight.clear();
+            sealedBatches.add(sealed.batch);
+            releaseIfFlushed();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        return current.table.size() + inFlight.size();
+    }
+
+    // inFlight가 모두 반영되었으면 봉인된 구간을 삭제
+    private void releaseIfFlushed() {
+        if (inFlight.isEmpty()) {
+            sealedBatches.forEach(Batch::release);
+            sealedBatches.clear();
+        }
+    }
+
+    private void merge(Long postId, long delta) {
+        inFlight.merge(postId, delta, (prev, d) -> {
+            long sum = prev + d;
+            return sum == 0 ? null : sum;
+        });
+    }
+
+    private static final class Epoch {
+
+        private final Batch batch;
+        private final StripedLongCounterTable table;
+        // 해당 epoch에 진입/이탈한 스레드 수
+        private final LongAdder enters = new LongAdder();
+        private final LongAdder exits = new LongAdder();
+
+        private Epoch(Batch batch, int expectedSize) {
+            this.batch = batch;
+            this.table = new StripedLongCounterTable(expectedSize);
+        }
+
+        // exits를 먼저 읽어야 집계된 이탈의 진입이 모두 집계되어 있음
+        private void awaitQuiescence() {
+            while (true) {
+                long exited = exits.sum();
+                if (exited == enters.sum()) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ktb.howard.ktb_community_server.infra.aws.s3.dto.PresignedUrl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+// objectKey별로 발급한 조회용 Presigned URL을 재사용하기 위한 캐시
+// - URL의 남은 유효 시간이 get-ttl-min x min-remaining-ratio 이상인 동안만 같은 URL을 반환한다.
+//   항목의 만료 시각을 (URL 만료 시각 - 최소 남은 시간)으로 두므로, 캐시에서 꺼낸 URL은 항상 충분한 유효 시간을 가진다.
+// - Object가 이동되면 이전 URL은 더 이상 유효하지 않으므로 해당 objectKey를 무효화해야 한다.
+@Slf4j
+@Repository
+public class PresignedUrlCacheRepository {
+
+    private final Cache<String, PresignedUrl> cache;
+
+    public PresignedUrlCacheRepository(
+            MeterRegistry meterRegistry,
+            @Value("${app.s3.get-ttl-min}") int getTtlMin,
+            @Value("${app.cache.presigned-url.min-remaining-ratio:0.5}") double minRemainingRatio,
+            @Value("${app.cache.presigned-url.max-size:50000}") long maximumSize
+    ) {
+        Duration minRemaining = Duration.ofSeconds(Math.round(getTtlMin * 60 * minRemainingRatio));
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ReusableUntil(minRemaining))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "presignedUrlCache");
+        log.info("PresignedUrlCache 설정 : minRemaining={}, maxSize={}", minRemaining, maximumSize);
+    }
+
+    // 재사용할 수 있는 URL이 없으면 signer로 새로 발급하여 저장. 같은 objectKey의 동시 발급은 한 번만 수행된다.
+    public PresignedUrl get(String objectKey, Function<String, PresignedUrl> signer) {
+        return cache.get(objectKey, signer);
+    }
+
+    public void invalidate(String objectKey) {
+        cache.invalidate(objectKey);
+    }
+
+    public void clearCache() {
+        log.info("PresignedUrlCache 초기화");
+        cache.invalidateAll();
+    }
+
+    private record ReusableUntil(Duration minRemaining) implements Expiry<String, PresignedUrl> {
+
+        @Override
+        public long expireAfterCreate(String objectKey, PresignedUrl url, long currentTime) {
+            Duration reusable = Duration.between(Instant.now(), url.expiresAt().minus(minRemaining));
+            return Math.max(reusable.toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String objectKey, PresignedUrl url, long currentTime, long currentDuration) {
+            return expireAfterCreate(objectKey, url, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String objectKey, PresignedUrl url, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// 같은 회원이 같은 게시글을 일정 시간 안에 다시 조회한 경우를 걸러내기 위한 최근 조회 캐시
+// - 조회 시간대(window)를 bucket 개수만큼 나누고, bucket마다 (postId, memberId)를 담는 Bloom filter를 둔다.
+// - 가장 오래된 bucket은 새 bucket으로 교체되므로, 메모리는 bucket 개수 x bucket 크기로 고정된다.
+// - 한 번 기록된 조회는 최소 window * (buckets - 1) / buckets, 최대 window 동안 중복으로 판단된다.
+// - Bloom filter의 오탐(false positive)으로 처음 조회가 중복으로 판단될 수 있으며, 그 비율은 fpp로 설정한다.
+@Slf4j
+@Repository
+public class RecentViewCacheRepository {
+
+    private final LongSupplier nanoClock;
+    private final long bucketDurationNanos;
+    private final int expectedInsertionsPerBucket;
+    private final double fpp;
+    private final Counter duplicatedCounter;
+    // 0번이 현재 기록 중인 bucket. 교체 시에만 새 배열로 바꾼다.
+    private volatile Bucket[] buckets;
+
+    @Autowired
+    public RecentViewCacheRepository(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.recent-view.window-minutes:30}") long windowMinutes,
+            @Value("${app.cache.recent-view.buckets:6}") int bucketCount,
+            @Value("${app.cache.recent-view.expected-insertions-per-bucket:200000}") int expectedInsertionsPerBucket,
+            @Value("${app.cache.recent-view.fpp:0.001}") double fpp
+    ) {
+        this(System::nanoTime, meterRegistry.counter("view.dedup.duplicated"),
+                TimeUnit.MINUTES.toNanos(windowMinutes), bucketCount, expectedInsertionsPerBucket, fpp);
+        log.info("RecentViewCache 설정 : window={}분, buckets={}, expectedInsertionsPerBucket={}, fpp={}",
+                windowMinutes, bucketCount, expectedInsertionsPerBucket, fpp);
+    }
+
+    RecentViewCacheRepository(
+            LongSupplier nanoClock,
+            Counter duplicatedCounter,
+            long windowNanos,
+            int bucketCount,
+            int expectedInsertionsPerBucket,
+            double fpp
+    ) {
+        this.nanoClock = nanoClock;
+        this.duplicatedCounter = duplicatedCounter;
+        this.bucketDurationNanos = windowNanos / bucketCount;
+        this.expectedInsertionsPerBucket = expectedInsertionsPerBucket;
+        this.fpp = fpp;
+        long now = nanoClock.getAsLong();
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            // 처음에는 모든 bucket이 비어 있으므로 시작 시각을 같게 두어도 중복 판단에 영향이 없음
+            buckets[i] = newBucket(now);
+        }
+    }
+
+    // 처음 조회인 경우 기록 후 true를, 조회 시간대 안에 이미 조회한 경우 false를 반환
+    public boolean markViewed(Long postId, Integer memberId) {
+        long key = (postId << 32) | (memberId & 0xFFFFFFFFL);
+        Bucket[] current = rotateIfExpired();
+        for (int i = 1; i < current.length; i++) {
+            if (current[i].filter.mightContain(key)) {
+                duplicatedCounter.increment();
+                return false;
+            }
+        }
+        // put은 filter의 비트가 바뀐 경우에만 true를 반환하므로, 현재 bucket에 이미 있는 조회도 함께 걸러짐
+        if (!current[0].filter.put(key)) {
+            duplicatedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private Bucket[] rotateIfExpired() {
+        Bucket[] current = buckets;
+        long now = nanoClock.getAsLong();
+        if (now - current[0].startedNanos < bucketDurationNanos) {
+            return current;
+        }
+        synchronized (this) {
+            current = buckets;
+            if (now - current[0].startedNanos < bucketDurationNanos) {
+                return current;
+            }
+            // 여러 bucket 시간이 지난 경우 지난 만큼 비어 있는 bucket을 앞에 채움
+            long elapsedBuckets = (now - current[0].startedNanos) / bucketDurationNanos;
+            int shift = (int) Math.min(elapsedBuckets, current.length);
+            Bucket[] rotated = new Bucket[current.length];
+            for (int i = 0; i < shift; i++) {
+                rotated[i] = newBucket(now);
+            }
+            System.arraycopy(current, 0, rotated, shift, current.length - shift);
+            buckets = rotated;
+            return rotated;
+        }
+    }
+
+    private Bucket newBucket(long startedNanos) {
+        return new Bucket(BloomFilter.create(Funnels.longFunnel(), expectedInsertionsPerBucket, fpp), startedNanos);
+    }
+
+    private record Bucket(BloomFilter<Long> filter, long startedNanos) {
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.ktb.howard.ktb_community_server.cache.sketch.HyperLogLog;
+import com.ktb.howard.ktb_community_server.post.repository.PostViewerSketchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+// 게시글별 순 조회자 수를 추정하는 HyperLogLog 스케치 캐시
+// - 조회 시에는 메모리의 스케치만 갱신하고 읽으며, DB에는 접근하지 않는다.
+// - 캐시에 없던 게시글의 스케치는 빈 스케치로 시작하고, 요청 스레드와 분리된 적재 스레드에서 DB에 저장된 레지스터를 읽어 병합한다.
+//   병합이 끝나기 전까지의 추정값은 실제보다 작을 수 있으며, 적재에 실패하거나 적재 대기열이 가득 차면 다음 저장 주기에 병합된다.
+// - 아직 저장되지 않은 스케치가 캐시에서 밀려나면 다음 저장 주기까지 따로 보관한다.
+@Slf4j
+@Repository
+public class UniqueViewerSketchRepository {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final Cache<Long, Sketch> cache;
+    private final Map<Long, Sketch> evictedDirtySketches = new ConcurrentHashMap<>();
+    // 게시글 ID로 DB에 저장된 레지스터를 조회. 저장된 스케치가 없으면 빈 값
+    private final Function<Long, Optional<byte[]>> storedLoader;
+    private final Executor loadExecutor;
+
+    public UniqueViewerSketchRepository(
+            PostViewerSketchRepository postViewerSketchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.unique-viewer.max-size:10000}") long maximumSize,
+            @Value("${app.cache.unique-viewer.load-threads:2}") int loadThreads,
+            @Value("${app.cache.unique-viewer.load-queue-size:10000}") int loadQueueSize
+    ) {
+        this(
+                postViewerSketchRepository::findRegisters,
+                new ThreadPoolExecutor(
+                        loadThreads,
+                        loadThreads,
+                        0,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(loadQueueSize),
+                        r -> {
+                            Thread thread = new Thread(r, "unique-viewer-sketch-loader");
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        // 대기열이 가득 차면 적재를 건너뛰고 다음 저장 주기의 병합에 맡김
+                        new ThreadPoolExecutor.DiscardPolicy()
+                ),
+                meterRegistry,
+                maximumSize
+        );
+    }
+
+    UniqueViewerSketchRepository(
+            Function<Long, Optional<byte[]>> storedLoader,
+            Executor loadExecutor,
+            MeterRegistry meterRegistry,
+            long maximumSize
+    ) {
+        this.storedLoader = storedLoader;
+        this.loadExecutor = loadExecutor;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .removalListener((Long postId, Sketch sketch, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && sketch != null && sketch.needsPersist()) {
+                        evictedDirtySketches.merge(postId, sketch, Sketch::mergeFrom);
+                    }
+                })
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "uniqueViewerSketchCache");
+    }
+
+    public void addViewer(Long postId, Integer memberId) {
+        Sketch sketch = cache.getIfPresent(postId);
+        if (sketch == null) {
+            Sketch created = new Sketch();
+            sketch = cache.asMap().computeIfAbsent(postId, k -> created);
+            if (sketch == created) {
+                // 스케치를 새로 등록한 스레드만 저장된 레지스터 적재를 요청
+                loadExecutor.execute(() -> loadStored(postId, created));
+            }
+        }
+        if (sketch.hll.offer(HASH_FUNCTION.hashInt(memberId).asLong())) {
+            sketch.dirty = true;
+        }
+    }
+
+    public long estimate(Long postId) {
+        Sketch sketch = cache.getIfPresent(postId);
+        return sketch == null ? 0 : sketch.hll.estimate();
+    }
+
+    // DB에 저장하거나 병합해야 하는 스케치를 꺼냄. 꺼낸 스케치는 저장 전까지 dirty 상태를 해제한다.
+    public Map<Long, Sketch> drainPersistTargets() {
+        Map<Long, Sketch> targets = new HashMap<>();
+        evictedDirtySketches.keySet().forEach(postId -> {
+            Sketch evicted = evictedDirtySketches.remove(postId);
+            if (evicted != null) {
+                targets.merge(postId, evicted, Sketch::mergeFrom);
+            }
+        });
+        cache.asMap().forEach((postId, sketch) -> {
+            if (sketch.needsPersist()) {
+                targets.merge(postId, sketch, (evicted, cached) -> cached.mergeFrom(evicted));
+            }
+        });
+        targets.values().forEach(s -> s.dirty = false);
+        return targets;
+    }
+
+    // 저장에 실패한 스케치를 다음 주기에 다시 저장하도록 표시
+    public void markUnpersisted(Map<Long, Sketch> sketches) {
+        sketches.forEach((postId, sketch) -> {
+            sketch.dirty = true;
+            // 그 사이 캐시에서 밀려난 스케치는 유실되지 않도록 따로 보관
+            if (cache.asMap().get(postId) != sketch) {
+                evictedDirtySketches.merge(postId, sketch, Sketch::mergeFrom);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        if (loadExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void loadStored(Long postId, Sketch sketch) {
+        try {
+            storedLoader.apply(postId).ifPresentOrElse(sketch::mergeStored, sketch::markMerged);
+        } catch (RuntimeException e) {
+            log.warn("저장된 순 조회자 스케치 적재 실패, 다음 저장 주기에 병합 : postId={}", postId, e);
+        }
+    }
+
+    public static final class Sketch {
+
+        private final HyperLogLog hll = new HyperLogLog();
+        // 마지막 저장 이후 레지스터가 바뀌었는지 여부
+        private volatile boolean dirty;
+        // DB에 저장된 스케치와 병합했는지 여부
+        private volatile boolean merged;
+
+        public byte[] toByteArray() {
+            return hll.toByteArray();
+        }
+
+        // DB에 저장된 레지스터를 병합
+        public void mergeStored(byte[] stored) {
+            hll.merge(stored);
+            merged = true;
+        }
+
+        // 저장된 스케치가 없는 게시글도 병합을 마친 것으로 표시
+        public void markMerged() {
+            merged = true;
+        }
+
+        private boolean needsPersist() {
+            return dirty || !merged;
+        }
+
+        private Sketch mergeFrom(Sketch other) {
+            hll.merge(other.hll.toByteArray());
+            dirty = dirty || other.dirty;
+            merged = merged && other.merged;
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.ktb.howard.ktb_community_server.cache.warmup;
+
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
+import com.ktb.howard.ktb_community_server.post.dto.CountInfoDto;
+import com.ktb.howard.ktb_community_server.post.repository.PostQueryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 배포 직후 비어 있는 좋아요 수, 조회수 캐시를 최근 게시글과 인기 게시글로 미리 채움
+// ApplicationRunner는 애플리케이션이 트래픽을 받을 준비가 되었다고 알리기(readiness) 전에 실행된다.
+@Slf4j
+@Component
+public class CountCacheWarmUpRunner implements ApplicationRunner {
+
+    private final PostQueryRepository postQueryRepository;
+    private final List<CountCache> countCaches;
+    private final TransactionTemplate loadTransaction;
+    // 조회할 예정인 행 수와 실제로 조회하여 적재한 행 수. 게시글이 예정보다 적으면 예정 행 수를 줄인다.
+    private final AtomicLong plannedRows = new AtomicLong();
+    private final AtomicLong loadedRows = new AtomicLong();
+    private final AtomicLong warmedCount = new AtomicLong();
+
+    @Value("${app.cache.warm-up.enabled:true}")
+    private boolean enabled;
+    @Value("${app.cache.warm-up.recent-posts:5000}")
+    private int recentPosts;
+    @Value("${app.cache.warm-up.top-posts:1000}")
+    private int topPosts;
+    @Value("${app.cache.warm-up.chunk-size:500}")
+    private int chunkSize;
+    @Value("${app.cache.warm-up.time-budget-ms:10000}")
+    private long timeBudgetMs;
+
+    public CountCacheWarmUpRunner(
+            PostQueryRepository postQueryRepository,
+            List<CountCache> countCaches,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.postQueryRepository = postQueryRepository;
+        this.countCaches = countCaches;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTransaction.setReadOnly(true);
+        // 워밍업 대상 대비 실제로 캐시에 적재한 비율. 시간 제한으로 중단되면 1.0보다 작다.
+        Gauge.builder("count.cache.warmup.coverage", this, CountCacheWarmUpRunner::coverage)
+                .description("워밍업 대상 중 카운트 캐시에 적재한 비율")
+                .register(meterRegistry);
+        Gauge.builder("count.cache.warmup.posts", warmedCount, AtomicLong::get)
+                .description("워밍업으로 카운트 캐시에 적재한 게시글 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long deadline = System.nanoTime() + timeBudgetMs * 1_000_000;
+        plannedRows.set(recentPosts + 2L * topPosts);
+        Set<Long> warmedPostIds = new HashSet<>();
+        log.info("[캐시 워밍업 시작] recentPosts={}, topPosts={}, timeBudgetMs={}", recentPosts, topPosts, timeBudgetMs);
+
+        // 1. 최근 게시글 N개를 id 역순으로 chunk 단위 조회
+        Long beforePostId = null;
+        int loaded = 0;
+        while (loaded < recentPosts && System.nanoTime() < deadline) {
+            int size = Math.min(chunkSize, recentPosts - loaded);
+            Long cursor = beforePostId;
+            List<CountInfoDto> chunk = warmUp(() -> postQueryRepository.findRecentCountInfos(cursor, size), warmedPostIds);
+            loaded += chunk.size();
+            if (chunk.size() < size) {
+                // 남은 게시글이 없으므로 나머지 예정 행 수를 제외
+                plannedRows.addAndGet(-(recentPosts - loaded));
+                break;
+            }
+            beforePostId = chunk.getLast().postId();
+        }
+        // 2. 좋아요 수, 조회수 상위 M개
+        if (System.nanoTime() < deadline) {
+            List<CountInfoDto> mostLiked = warmUp(() -> postQueryRepository.findMostLikedCountInfos(topPosts), warmedPostIds);
+            plannedRows.addAndGet(-(topPosts - mostLiked.size()));
+        }
+        if (System.nanoTime() < deadline) {
+            List<CountInfoDto> mostViewed = warmUp(() -> postQueryRepository.findMostViewedCountInfos(topPosts), warmedPostIds);
+            plannedRows.addAndGet(-(topPosts - mostViewed.size()));
+        }
+
+        boolean timedOut = System.nanoTime() >= deadline;
+        log.info("[캐시 워밍업 종료] warmedPosts={}, coverage={}, timedOut={}",
+                warmedCount.get(), String.format("%.2f", coverage()), timedOut);
+    }
+
+    // 조회 시작 시각 이후에 시작한 새 트랜잭션에서 읽어야, 그 이전에 커밋된 동기화가 모두 반영된 값으로 캐시를 채울 수 있다.
+    private List<CountInfoDto> warmUp(Supplier<List<CountInfoDto>> query, Set<Long> warmedPostIds) {
+        long loadStartedNanos = System.nanoTime();
+        List<CountInfoDto> countInfos = loadTransaction.execute(status -> query.get());
+        countCaches.forEach(c -> c.safePutAll(countInfos, loadStartedNanos));
+        loadedRows.addAndGet(countInfos.size());
+        countInfos.forEach(i -> {
+            if (warmedPostIds.add(i.postId())) {
+                warmedCount.incrementAndGet();
+            }
+        });
+        return countInfos;
+    }
+
+    private double coverage() {
+        long planned = plannedRows.get();
+        if (planned <= 0) {
+            // 워밍업할 게시글이 없는 경우
+            return 1.0;
+        }
+        return Math.min(1.0, (double) loadedRows.get() / planned);
+    }
+
+}
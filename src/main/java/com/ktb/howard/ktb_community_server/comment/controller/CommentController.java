@@ -2,10 +2,12 @@ package com.ktb.howard.ktb_community_server.comment.controller;
 
 import com.ktb.howard.ktb_community_server.auth.dto.CustomUser;
 import com.ktb.howard.ktb_community_server.comment.dto.CommentResponseDto;
+import com.ktb.howard.ktb_community_server.comment.dto.CommentTreeResponseDto;
 import com.ktb.howard.ktb_community_server.comment.dto.CreateCommentRequestDto;
 import com.ktb.howard.ktb_community_server.comment.dto.CreateCommentResponseDto;
 import com.ktb.howard.ktb_community_server.comment.dto.UpdateCommentRequestDto;
 import com.ktb.howard.ktb_community_server.comment.service.CommentService;
+import com.ktb.howard.ktb_community_server.pagination.dto.CursorPageResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -43,12 +45,29 @@ public class CommentController {
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/{postId}/comments")
-    public ResponseEntity<List<CommentResponseDto>> getComments(
+    public ResponseEntity<CursorPageResponseDto<CommentResponseDto>> getComments(
             @PathVariable Long postId,
-            @RequestParam("cursor") Long cursor,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam("size") Integer size
     ) {
-        List<CommentResponseDto> comments = commentService.getComments(postId, cursor, size);
+        CursorPageResponseDto<CommentResponseDto> comments = commentService.getComments(postId, cursor, size);
+        return ResponseEntity.ok(comments);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{postId}/comments/tree")
+    public ResponseEntity<CursorPageResponseDto<CommentTreeResponseDto>> getCommentTree(
+            @PathVariable Long postId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("size") Integer size,
+            @RequestParam(value = "replyPreviewSize", defaultValue = "3") Integer replyPreviewSize
+    ) {
+        CursorPageResponseDto<CommentTreeResponseDto> comments = commentService.getCommentTree(
+                postId,
+                cursor,
+                size,
+                replyPreviewSize
+        );
         return ResponseEntity.ok(comments);
     }
 
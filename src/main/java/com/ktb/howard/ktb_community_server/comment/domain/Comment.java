@@ -16,10 +16,16 @@ import java.time.LocalDateTime;
 @Entity
 @Table(
         name = "comment",
-        indexes = @Index(
-                name = "idx_comment_post_id_deleted_at_created_at",
-                columnList = "post_id, deleted_at, created_at"
-        )
+        indexes = {
+                @Index(
+                        name = "idx_comment_post_id_deleted_at_created_at",
+                        columnList = "post_id, deleted_at, created_at"
+                ),
+                @Index(
+                        name = "idx_comment_post_id_parent_comment_id_created_at",
+                        columnList = "post_id, parent_comment_id, created_at"
+                )
+        }
 )
 public class Comment extends BaseEntity {
 
@@ -33,4 +33,12 @@ public class CommentResponseDto {
         this.deletedAt = comment.getDeletedAt();
     }
 
+    public CommentResponseDto(ReplyPreviewDto reply, MemberInfoResponseDto writerInfo) {
+        this.commentId = reply.commentId();
+        this.content = reply.content();
+        this.writerInfo = writerInfo;
+        this.createdAt = reply.createdAt();
+        this.deletedAt = reply.deletedAt();
+    }
+
 }
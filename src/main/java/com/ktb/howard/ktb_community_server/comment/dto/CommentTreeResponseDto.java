@@ -0,0 +1,11 @@
+package com.ktb.howard.ktb_community_server.comment.dto;
+
+import java.util.List;
+
+public record CommentTreeResponseDto(
+        CommentResponseDto comment,
+        Long replyCount,
+        List<CommentResponseDto> replies,
+        Boolean hasMoreReplies
+) {
+}
@@ -0,0 +1,15 @@
+package com.ktb.howard.ktb_community_server.comment.dto;
+
+import java.time.LocalDateTime;
+
+// 부모 댓글별 최근 대댓글 미리보기 행과, 해당 부모 댓글의 전체 대댓글 수
+public record ReplyPreviewDto(
+        Long commentId,
+        Long parentCommentId,
+        Integer memberId,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime deletedAt,
+        Long replyCount
+) {
+}
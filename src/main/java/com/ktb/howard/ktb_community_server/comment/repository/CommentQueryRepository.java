@@ -0,0 +1,31 @@
+package com.ktb.howard.ktb_community_server.comment.repository;
+
+import com.ktb.howard.ktb_community_server.comment.domain.Comment;
+import com.ktb.howard.ktb_community_server.pagination.KeysetCursor;
+import com.ktb.howard.ktb_community_server.pagination.KeysetPaginator;
+import com.ktb.howard.ktb_community_server.pagination.KeysetSlice;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import static com.ktb.howard.ktb_community_server.comment.domain.QComment.comment;
+
+@AllArgsConstructor
+@Repository
+public class CommentQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public KeysetSlice<Comment> findComments(Long postId, KeysetCursor cursor, int size) {
+        return KeysetPaginator.fetch(
+                queryFactory.selectFrom(comment)
+                        .where(comment.post.id.eq(postId), comment.parentComment.isNull()),
+                comment.createdAt,
+                comment.id,
+                cursor,
+                size,
+                c -> new KeysetCursor(c.getCreatedAt(), c.getId())
+        );
+    }
+
+}
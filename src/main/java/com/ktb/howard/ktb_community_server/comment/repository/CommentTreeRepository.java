@@ -0,0 +1,61 @@
+package com.ktb.howard.ktb_community_server.comment.repository;
+
+import com.ktb.howard.ktb_community_server.comment.dto.ReplyPreviewDto;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@AllArgsConstructor
+@Repository
+public class CommentTreeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 여러 부모 댓글의 최근 대댓글 previewSize개와 전체 대댓글 수를 윈도 함수로 한 번에 조회
+    // post_id 조건을 함께 주어 idx_comment_post_id_parent_comment_id_created_at 인덱스를 사용한다.
+    public List<ReplyPreviewDto> findReplyPreviews(Long postId, Collection<Long> parentCommentIds, int previewSize) {
+        if (parentCommentIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT comment_id, parent_comment_id, member_id, content, created_at, deleted_at, reply_count " +
+                "FROM (" +
+                "SELECT c.comment_id, c.parent_comment_id, c.member_id, c.content, c.created_at, c.deleted_at, " +
+                "ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_at DESC, c.comment_id DESC) AS rn, " +
+                "COUNT(*) OVER (PARTITION BY c.parent_comment_id) AS reply_count " +
+                "FROM comment c " +
+                "WHERE c.post_id = ? AND c.parent_comment_id IN (" +
+                String.join(", ", Collections.nCopies(parentCommentIds.size(), "?")) +
+                ")" +
+                ") AS replies " +
+                // previewSize가 0이면 대댓글 수만 필요하므로 각 부모의 첫 행만 가져옴
+                "WHERE rn <= GREATEST(?, 1) " +
+                "ORDER BY parent_comment_id, rn";
+        List<Object> params = new ArrayList<>(parentCommentIds.size() + 2);
+        params.add(postId);
+        params.addAll(parentCommentIds);
+        params.add(previewSize);
+        return jdbcTemplate.query(
+                sql,
+                (rs, rowNum) -> {
+                    Timestamp deletedAt = rs.getTimestamp("deleted_at");
+                    return new ReplyPreviewDto(
+                            rs.getLong("comment_id"),
+                            rs.getLong("parent_comment_id"),
+                            rs.getInt("member_id"),
+                            rs.getString("content"),
+                            rs.getTimestamp("created_at").toLocalDateTime(),
+                            deletedAt != null ? deletedAt.toLocalDateTime() : null,
+                            rs.getLong("reply_count")
+                    );
+                },
+                params.toArray()
+        );
+    }
+
+}
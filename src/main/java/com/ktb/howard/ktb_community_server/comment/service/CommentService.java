@@ -1,9 +1,14 @@
 package com.ktb.howard.ktb_community_server.comment.service;
 
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
 import com.ktb.howard.ktb_community_server.comment.domain.Comment;
 import com.ktb.howard.ktb_community_server.comment.dto.CommentResponseDto;
+import com.ktb.howard.ktb_community_server.comment.dto.CommentTreeResponseDto;
 import com.ktb.howard.ktb_community_server.comment.dto.CreateCommentResponseDto;
+import com.ktb.howard.ktb_community_server.comment.dto.ReplyPreviewDto;
+import com.ktb.howard.ktb_community_server.comment.repository.CommentQueryRepository;
 import com.ktb.howard.ktb_community_server.comment.repository.CommentRepository;
+import com.ktb.howard.ktb_community_server.comment.repository.CommentTreeRepository;
 import com.ktb.howard.ktb_community_server.image.domain.ImageType;
 import com.ktb.howard.ktb_community_server.image.dto.CreateImageViewUrlRequestDto;
 import com.ktb.howard.ktb_community_server.image.dto.ImageUrlResponseDto;
@@ -12,28 +17,42 @@ import com.ktb.howard.ktb_community_server.member.domain.Member;
 import com.ktb.howard.ktb_community_server.member.dto.MemberInfoResponseDto;
 import com.ktb.howard.ktb_community_server.member.repository.MemberRepository;
 import com.ktb.howard.ktb_community_server.member.service.MemberService;
+import com.ktb.howard.ktb_community_server.pagination.KeysetCursor;
+import com.ktb.howard.ktb_community_server.pagination.KeysetSlice;
+import com.ktb.howard.ktb_community_server.pagination.dto.CursorPageResponseDto;
 import com.ktb.howard.ktb_community_server.post.domain.Post;
+import com.ktb.howard.ktb_community_server.post.exception.PostNotFoundException;
 import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
+import com.ktb.howard.ktb_community_server.transaction.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Slice;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class CommentService {
 
+    private static final int MAX_REPLY_PREVIEW_SIZE = 20;
+
     private final MemberService memberService;
     private final CommentRepository commentRepository;
+    private final CommentQueryRepository commentQueryRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final ImageService imageService;
+    private final CommentTreeRepository commentTreeRepository;
+    private final CountCache commentCountCache;
 
     @Transactional
     public CreateCommentResponseDto createComment(
@@ -42,6 +61,11 @@ public class CommentService {
             Long parentCommentId,
             String content
     ) {
+        // 게시글 본문을 읽지 않고 삭제되지 않은 게시글인지만 확인
+        if (!postRepository.existsById(postId)) {
+            log.error("존재하지 않는 게시글 : postId={}", postId);
+            throw new PostNotFoundException("존재하지 않는 게시글입니다.");
+        }
         Post post = postRepository.getReferenceById(postId);
         Member member = memberRepository.getReferenceById(memberId.longValue());
         Comment parentComment = null;
@@ -55,7 +79,9 @@ public class CommentService {
                 .content(content)
                 .build();
         Comment savedComment = commentRepository.save(comment);
-        post.increaseCommentCount(); // 댓글 수 1증가
+        // 게시글 행을 읽거나 잠그지 않고 캐시의 변화량으로만 댓글 수를 증가시킴
+        // 댓글 수 변화량은 DB 반영 전까지 캐시에만 남으므로, 롤백된 댓글이 반영되지 않도록 커밋 이후에 기록
+        TransactionCallbacks.afterCommit(() -> commentCountCache.increaseCount(postId));
         return new CreateCommentResponseDto(
                 savedComment.getId(),
                 savedComment.getPost().getId(),
@@ -66,36 +92,60 @@ public class CommentService {
     }
 
     @Transactional(readOnly = true)
-    public List<CommentResponseDto> getComments(Long postId, Long cursor, Integer size) {
-        PageRequest pageRequest = PageRequest.of(0, size);
-        Slice<Comment> comments;
-        if (cursor == 0) comments = commentRepository.findComments(postId, pageRequest);
-        else comments = commentRepository.findCommentsNextPage(postId, cursor, pageRequest);
-        return comments.stream()
-                .map(c -> {
-                    MemberInfoResponseDto profile = memberService.getProfile(c.getMember().getId());
-                    return new CommentResponseDto(
-                            c,
-                            profile.email(),
-                            profile.nickname(),
-                            profile.imageId(),
-                            profile.profileImageUrl()
-                    );
-                }).toList();
+    public CursorPageResponseDto<CommentResponseDto> getComments(Long postId, String cursor, Integer size) {
+        KeysetSlice<Comment> comments = commentQueryRepository.findComments(postId, KeysetCursor.decode(cursor), size);
+        Map<Integer, MemberInfoResponseDto> profiles = getWriterProfiles(comments.contents());
+        return comments.toResponse(c -> toResponse(c, profiles));
     }
 
     @Transactional(readOnly = true)
     public List<CommentResponseDto> getChildComments(Long parentCommentId) {
-        return commentRepository.findByParentCommentId(parentCommentId).stream()
-                .map(c -> {
-                    MemberInfoResponseDto profile = memberService.getProfile(c.getMember().getId());
-                    return new CommentResponseDto(
-                            c, profile.email(), profile.nickname(), profile.imageId(), profile.profileImageUrl()
-                    );
-                })
+        List<Comment> comments = commentRepository.findByParentCommentId(parentCommentId);
+        Map<Integer, MemberInfoResponseDto> profiles = getWriterProfiles(comments);
+        return comments.stream()
+                .map(c -> toResponse(c, profiles))
                 .toList();
     }
 
+    // 부모 댓글 한 페이지와 각 부모의 대댓글 수, 최근 대댓글 미리보기를 함께 조회
+    // 부모 댓글 조회, 대댓글 미리보기 조회, 작성자 프로필 조회를 각각 한 번씩만 수행한다.
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentTreeResponseDto> getCommentTree(
+            Long postId,
+            String cursor,
+            Integer size,
+            Integer replyPreviewSize
+    ) {
+        int previewSize = Math.clamp(replyPreviewSize, 0, MAX_REPLY_PREVIEW_SIZE);
+        KeysetSlice<Comment> roots = commentQueryRepository.findComments(postId, KeysetCursor.decode(cursor), size);
+        List<Long> rootIds = roots.contents().stream().map(Comment::getId).toList();
+        Map<Long, List<ReplyPreviewDto>> repliesByParent = commentTreeRepository.findReplyPreviews(postId, rootIds, previewSize)
+                .stream()
+                .collect(Collectors.groupingBy(ReplyPreviewDto::parentCommentId));
+
+        Set<Integer> writerIds = new HashSet<>();
+        roots.contents().forEach(c -> writerIds.add(c.getMember().getId()));
+        repliesByParent.values().forEach(replies -> replies.stream()
+                .limit(previewSize)
+                .forEach(r -> writerIds.add(r.memberId())));
+        Map<Integer, MemberInfoResponseDto> profiles = memberService.getProfiles(writerIds);
+
+        return roots.toResponse(root -> {
+            List<ReplyPreviewDto> replies = repliesByParent.getOrDefault(root.getId(), List.of());
+            long replyCount = replies.isEmpty() ? 0 : replies.getFirst().replyCount();
+            List<CommentResponseDto> previews = replies.stream()
+                    .limit(previewSize)
+                    .map(r -> new CommentResponseDto(r, profiles.get(r.memberId())))
+                    .toList();
+            return new CommentTreeResponseDto(
+                    toResponse(root, profiles),
+                    replyCount,
+                    previews,
+                    replyCount > previews.size()
+            );
+        });
+    }
+
     @Transactional
     public void updateComment(Integer loginMemberId, Long commentId, String content) {
         Comment findComment = commentRepository.findById(commentId)
@@ -113,8 +163,28 @@ public class CommentService {
         if (!loginMemberId.equals(findComment.getMember().getId())) {
             throw new AccessDeniedException("올바르지 않은 요청입니다.");
         }
-        findComment.getPost().decreaseCommentCount(); // 댓글 갯수 1감소
+        Long postId = findComment.getPost().getId();
+        TransactionCallbacks.afterCommit(() -> commentCountCache.decreaseCount(postId)); // 댓글 갯수 1감소
         findComment.updateDeletedAt(LocalDateTime.now());
     }
 
+    // 댓글 작성자의 프로필을 중복 없이 한 번에 조회. 같은 작성자의 댓글은 같은 프로필을 재사용한다.
+    private Map<Integer, MemberInfoResponseDto> getWriterProfiles(List<Comment> comments) {
+        Set<Integer> writerIds = comments.stream()
+                .map(c -> c.getMember().getId())
+                .collect(Collectors.toSet());
+        return memberService.getProfiles(writerIds);
+    }
+
+    private CommentResponseDto toResponse(Comment comment, Map<Integer, MemberInfoResponseDto> profiles) {
+        MemberInfoResponseDto profile = profiles.get(comment.getMember().getId());
+        return new CommentResponseDto(
+                comment,
+                profile.email(),
+                profile.nickname(),
+                profile.imageId(),
+                profile.profileImageUrl()
+        );
+    }
+
 }
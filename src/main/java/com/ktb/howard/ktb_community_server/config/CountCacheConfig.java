@@ -0,0 +1,57 @@
+package com.ktb.howard.ktb_community_server.config;
+
+import com.ktb.howard.ktb_community_server.cache.journal.CountDeltaJournal;
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
+import com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn;
+import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 게시글 카운트 컬럼마다 하나의 카운트 캐시를 등록. 주입받는 쪽은 빈 이름(likeCountCache 등)으로 구분한다.
+@Configuration
+@RequiredArgsConstructor
+public class CountCacheConfig {
+
+    private final PostRepository postRepository;
+    private final CountDeltaJournal countDeltaJournal;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.count.max-size:100000}")
+    private long maximumSize;
+
+    @Bean
+    public CountCache likeCountCache() {
+        return countCache("likeCountCache", CountColumn.LIKE_COUNT);
+    }
+
+    @Bean
+    public CountCache viewCountCache() {
+        return countCache("viewCountCache", CountColumn.VIEW_COUNT);
+    }
+
+    @Bean
+    public CountCache commentCountCache() {
+        return countCache("commentCountCache", CountColumn.COMMENT_COUNT);
+    }
+
+    private CountCache countCache(String name, CountColumn column) {
+        return new CountCache(
+                name,
+                column,
+                postRepository,
+                countDeltaJournal,
+                transactionManager,
+                eventPublisher,
+                meterRegistry,
+                maximumSize
+        );
+    }
+
+}
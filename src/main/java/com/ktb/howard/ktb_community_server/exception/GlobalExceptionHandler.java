@@ -6,10 +6,10 @@ import com.ktb.howard.ktb_community_server.member.exception.AlreadyUsedEmailExce
 import com.ktb.howard.ktb_community_server.member.exception.AlreadyUsedNicknameException;
 import com.ktb.howard.ktb_community_server.member.exception.MemberNotFoundException;
 import com.ktb.howard.ktb_community_server.member.exception.PasswordNotMatchedException;
+import com.ktb.howard.ktb_community_server.pagination.exception.InvalidCursorException;
 import com.ktb.howard.ktb_community_server.post.exception.PostNotFoundException;
 import com.ktb.howard.ktb_community_server.post_like.exception.InvalidLikeLogTypeException;
-import com.ktb.howard.ktb_community_server.post_like.exception.PostLikeAlreadyExistException;
-import com.ktb.howard.ktb_community_server.post_like.exception.PostLikeNotFoundException;
+import com.ktb.howard.ktb_community_server.rollup.exception.InvalidStatRangeException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -114,19 +114,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
-    @ExceptionHandler(PostLikeNotFoundException.class)
-    public ResponseEntity<String> handlePostLikeNotFoundException(PostLikeNotFoundException ex) {
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException ex) {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
-    @ExceptionHandler(PostLikeAlreadyExistException.class)
-    public ResponseEntity<String> handlePostLikeAlreadyExistException(PostLikeAlreadyExistException ex) {
+    @ExceptionHandler(PasswordNotMatchedException.class)
+    public ResponseEntity<String> handlePasswordNotMatchedException(PasswordNotMatchedException ex) {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
-    @ExceptionHandler(PasswordNotMatchedException.class)
-    public ResponseEntity<String> handlePasswordNotMatchedException(PasswordNotMatchedException ex) {
+    @ExceptionHandler(InvalidStatRangeException.class)
+    public ResponseEntity<String> handleInvalidStatRangeException(InvalidStatRangeException ex) {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,3 @@
+package com.ktb.howard.ktb_community_server.image.dto;
+
+public record PersistImageRequestDto(Long imageId, Integer sequence) { }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ImageRepository extends JpaRepository<Image, Long> {
@@ -19,6 +20,12 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
             @Param("referenceId") Long referenceId
     );
 
+    @Query("select i from Image i where i.imageType = :imageType and i.referenceId in :referenceIds")
+    List<Image> findImageByImageTypeAndReferenceIdIn(
+            @Param("imageType") ImageType imageType,
+            @Param("referenceIds") Collection<Long> referenceIds
+    );
+
     @Query("select i.id from Image i where i.imageType = :imageType and i.referenceId = :referenceId")
     List<Long> findImageIdByImageTypeAndReferenceId(
             @Param("imageType") ImageType imageType,
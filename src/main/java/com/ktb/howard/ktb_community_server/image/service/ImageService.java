@@ -8,6 +8,7 @@ import com.ktb.howard.ktb_community_server.image.dto.*;
 import com.ktb.howard.ktb_community_server.image.exception.*;
 import com.ktb.howard.ktb_community_server.image.repository.ImageRepository;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.dto.PresignedUrl;
+import com.ktb.howard.ktb_community_server.infra.aws.s3.exception.FileStorageException;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.service.S3Service;
 import com.ktb.howard.ktb_community_server.member.domain.Member;
 import lombok.RequiredArgsConstructor;
@@ -15,10 +16,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.google.common.io.Files;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -32,6 +39,9 @@ public class ImageService {
     private String bucketName;
     @Value("${aws.region}")
     private String region;
+    // 복사를 기다리는 동안 DB 커넥션을 점유하므로, 커넥션 풀의 connectionTimeout(Hikari 기본 30초)보다 충분히 짧아야 한다.
+    @Value("${app.s3.move-timeout-ms:3000}")
+    private long moveTimeoutMs;
 
     @Transactional
     public Image createImage(ImageType type, ImageMetadata metadata, ImageStatus status) {
@@ -111,6 +121,31 @@ public class ImageService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Map<Long, List<ImageUrlResponseDto>> createImageViewUrls(ImageType imageType, Collection<Long> referenceIds) {
+        if (referenceIds.isEmpty()) {
+            return Map.of();
+        }
+        // 동일한 objectKey는 한 번만 서명하도록 요청 단위로 Presigned URL을 재사용
+        Map<String, PresignedUrl> presignedUrls = new HashMap<>();
+        Map<Long, List<ImageUrlResponseDto>> response = new HashMap<>();
+        for (Image image : imageRepository.findImageByImageTypeAndReferenceIdIn(imageType, referenceIds)) {
+            PresignedUrl presignedUrl = presignedUrls.computeIfAbsent(
+                    image.getObjectKey(),
+                    s3Service::createGetObjectPresignedUrl
+            );
+            response.computeIfAbsent(image.getReferenceId(), k -> new ArrayList<>())
+                    .add(new ImageUrlResponseDto(
+                            presignedUrl.presignedUrl(),
+                            image.getId(),
+                            image.getSequence(),
+                            presignedUrl.httpMethod(),
+                            presignedUrl.expiresAt()
+                    ));
+        }
+        return response;
+    }
+
     @Transactional(readOnly = true)
     public Boolean isExist(Long imageId) {
         String objectKey = imageRepository.findObjectKeyById(imageId);
@@ -124,41 +159,116 @@ public class ImageService {
 
     @Transactional
     public void persistImage(Long imageId, Member owner, Long referenceId, Integer sequence) {
-        Optional<Image> imageOpt = imageRepository.findById(imageId);
-        if (imageOpt.isEmpty()) {
-            log.error("존재하지 않은 이미지: imageId={}, ownerId={}, referenceId={}", imageId, owner.getId(), referenceId);
-            throw new ImageNotFoundException("존재하지 않는 이미지입니다.", imageId, referenceId);
+        persistImages(List.of(new PersistImageRequestDto(imageId, sequence)), owner, referenceId);
+    }
+
+    // 한 참조 대상(게시글, 회원)의 이미지들을 한 번에 영속화 영역으로 이동
+    @Transactional
+    public void persistImages(List<PersistImageRequestDto> requests, Member owner, Long referenceId) {
+        List<ObjectMove> moves = new ArrayList<>();
+        for (PersistImageRequestDto request : requests) {
+            Image image = imageRepository.findById(request.imageId()).orElseThrow(() -> {
+                log.error("존재하지 않은 이미지: imageId={}, ownerId={}, referenceId={}", request.imageId(), owner.getId(), referenceId);
+                return new ImageNotFoundException("존재하지 않는 이미지입니다.", request.imageId(), referenceId);
+            });
+            GenerateObjectKeyResponse persistObjectKey = generateObjectKey(
+                    image.getImageType(),
+                    image.getFileName(),
+                    ImageStatus.PERSIST
+            );
+            moves.add(new ObjectMove(image.getObjectKey(), persistObjectKey.objectKey()));
+            image.updateOwner(owner);
+            image.updateReference(referenceId);
+            image.updateObjectKey(persistObjectKey.objectKey());
+            image.updateStatus(ImageStatus.PERSIST);
+            image.updateSequence(request.sequence());
         }
-        Image image = imageOpt.get();
-        GenerateObjectKeyResponse persistObjectKey = generateObjectKey(
-                image.getImageType(),
-                image.getFileName(),
-                ImageStatus.PERSIST
-        );
-        s3Service.moveObject(image.getObjectKey(), persistObjectKey.objectKey());
-        image.updateOwner(owner);
-        image.updateReference(referenceId);
-        image.updateObjectKey(persistObjectKey.objectKey());
-        image.updateStatus(ImageStatus.PERSIST);
-        image.updateSequence(sequence);
+        moveObjects(moves);
     }
 
     @Transactional
     public void deleteImage(Long imageId) {
-        Image image = imageRepository.findById(imageId)
-                .orElseThrow(() -> {
-                    log.error("삭제 조치할 이미지 없음: imageId={}", imageId);
-                    return new ImageNotFoundException("삭제할 이미지가 없습니다.", imageId);
-                });
-        GenerateObjectKeyResponse deleteObjectKey = generateObjectKey(
-                image.getImageType(),
-                image.getFileName(),
-                ImageStatus.DELETED
-        );
-        s3Service.moveObject(image.getObjectKey(), deleteObjectKey.objectKey());
-        image.updateObjectKey(deleteObjectKey.objectKey());
-        image.updateStatus(ImageStatus.DELETED);
-        image.updateDeletedAt(LocalDateTime.now());
+        deleteImages(List.of(imageId));
+    }
+
+    @Transactional
+    public void deleteImages(Collection<Long> imageIds) {
+        List<ObjectMove> moves = new ArrayList<>();
+        for (Long imageId : imageIds) {
+            Image image = imageRepository.findById(imageId)
+                    .orElseThrow(() -> {
+                        log.error("삭제 조치할 이미지 없음: imageId={}", imageId);
+                        return new ImageNotFoundException("삭제할 이미지가 없습니다.", imageId);
+                    });
+            GenerateObjectKeyResponse deleteObjectKey = generateObjectKey(
+                    image.getImageType(),
+                    image.getFileName(),
+                    ImageStatus.DELETED
+            );
+            moves.add(new ObjectMove(image.getObjectKey(), deleteObjectKey.objectKey()));
+            image.updateObjectKey(deleteObjectKey.objectKey());
+            image.updateStatus(ImageStatus.DELETED);
+            image.updateDeletedAt(LocalDateTime.now());
+        }
+        moveObjects(moves);
+    }
+
+    // Object들을 동시에 복사하고, 모든 복사가 성공한 경우에만 트랜잭션이 커밋되도록 복사 완료까지 기다림
+    // - 원본 삭제는 커밋 이후에 비동기로 수행하므로, 커밋 전에는 원본과 복사본이 모두 남아 있다.
+    // - 복사가 하나라도 실패하거나 트랜잭션이 롤백되면, DB는 원본 objectKey를 가리키므로 복사본을 지운다.
+    //   실패, 시간 초과 시에는 예외로 롤백되며 afterCompletion을 등록하지 않으므로, 아직 끝나지 않은 복사도 여기서만 정리한다.
+    // - 커밋 결과를 알 수 없으면 DB가 어느 objectKey를 가리키는지 모르므로 원본과 복사본을 모두 남긴다.
+    private void moveObjects(List<ObjectMove> moves) {
+        List<ObjectMove> targets = moves.stream().filter(ObjectMove::isRequired).toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<Void>> copies = targets.stream()
+                .map(m -> s3Service.copyObjectAsync(m.source(), m.destination()))
+                .toList();
+        try {
+            CompletableFuture.allOf(copies.toArray(CompletableFuture[]::new)).get(moveTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteCopies(targets, copies);
+            throw new FileStorageException("Object 이동 요청처리 실패. FileStorage 상태를 확인하세요.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Object 이동 실패, 복사본 정리 : moves={}", targets, e);
+            deleteCopies(targets, copies);
+            if (e.getCause() instanceof FileStorageException fileStorageException) {
+                throw fileStorageException;
+            }
+            throw new FileStorageException("Object 이동 요청처리 실패. FileStorage 상태를 확인하세요.", e);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteSources(targets);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                switch (status) {
+                    case STATUS_COMMITTED -> deleteSources(targets);
+                    case STATUS_ROLLED_BACK -> {
+                        log.warn("트랜잭션이 롤백되어 복사본 정리 : moves={}", targets);
+                        deleteCopies(targets, copies);
+                    }
+                    default -> log.error("트랜잭션 커밋 여부를 알 수 없어 원본과 복사본을 모두 유지, 확인 필요 : moves={}", targets);
+                }
+            }
+        });
+    }
+
+    private void deleteSources(List<ObjectMove> moves) {
+        moves.forEach(m -> s3Service.deleteObjectAsync(m.source()));
+    }
+
+    // 아직 끝나지 않은 복사는 취소해도 S3에서 완료될 수 있으므로, 각 복사가 성공한 시점에 복사본을 삭제
+    private void deleteCopies(List<ObjectMove> moves, List<CompletableFuture<Void>> copies) {
+        for (int i = 0; i < moves.size(); i++) {
+            String destination = moves.get(i).destination();
+            copies.get(i).thenCompose(v -> s3Service.deleteObjectAsync(destination));
+        }
     }
 
     public GenerateObjectKeyResponse generateObjectKey(ImageType imageType, String originalFileName, ImageStatus status) {
@@ -196,4 +306,12 @@ public class ImageService {
         return imageRepository.findImageIdByImageTypeAndReferenceId(imageType, referenceId);
     }
 
+    private record ObjectMove(String source, String destination) {
+
+        private boolean isRequired() {
+            return !source.equals(destination);
+        }
+
+    }
+
 }
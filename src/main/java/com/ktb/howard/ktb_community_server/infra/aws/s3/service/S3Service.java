@@ -1,5 +1,6 @@
 package com.ktb.howard.ktb_community_server.infra.aws.s3.service;
 
+import com.ktb.howard.ktb_community_server.cache.repository.PresignedUrlCacheRepository;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.dto.ObjectMetadata;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.dto.PresignedUrl;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.exception.FileStorageException;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -19,6 +21,8 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,7 +30,9 @@ import java.util.Optional;
 public class S3Service {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
     private final S3Presigner s3Presigner;
+    private final PresignedUrlCacheRepository presignedUrlCacheRepository;
 
     @Value("${app.s3.bucket}")
     private String bucket;
@@ -62,7 +68,12 @@ public class S3Service {
         }
     }
 
+    // 남은 유효 시간이 충분한 URL이 캐시에 있으면 서명하지 않고 재사용
     public PresignedUrl createGetObjectPresignedUrl(String objectKey) {
+        return presignedUrlCacheRepository.get(objectKey, this::presignGetObject);
+    }
+
+    private PresignedUrl presignGetObject(String objectKey) {
         try {
             GetObjectRequest objectRequest = GetObjectRequest.builder()
                     .bucket(bucket)
@@ -113,31 +124,50 @@ public class S3Service {
         }
     }
 
-    public void moveObject(String sourceObjectKey, String destinationObjectKey) {
-        log.info("Object 이동 시작 : {} -> {}", sourceObjectKey, destinationObjectKey);
+    // 복사가 끝나면 완료되는 Future를 반환. 실패 시 FileStorageException으로 완료된다.
+    public CompletableFuture<Void> copyObjectAsync(String sourceObjectKey, String destinationObjectKey) {
         if (sourceObjectKey.equals(destinationObjectKey)) {
-            log.warn("Source와 Destination ObjectKey가 동일하여 이동 작업을 중단: {}", sourceObjectKey);
-            return;
-        }
-        try {
-            CopyObjectRequest copyRequest = CopyObjectRequest.builder()
-                    .sourceBucket(bucket)
-                    .sourceKey(sourceObjectKey)
-                    .destinationBucket(bucket)
-                    .destinationKey(destinationObjectKey)
-                    .build();
-            s3Client.copyObject(copyRequest);
-            log.info("Object 복사 완료 : {} -> {}", sourceObjectKey, destinationObjectKey);
-            DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(sourceObjectKey)
-                    .build();
-            s3Client.deleteObject(deleteRequest);
-            log.info("Object 삭제 완료 : {}", sourceObjectKey);
-        } catch (SdkException e) {
-            log.error("Object 이동 실패 {} -> {}", sourceObjectKey, destinationObjectKey, e);
-            throw new FileStorageException("Object 이동 요청처리 실패. FileStorage 상태를 확인하세요.", e);
+            log.warn("Source와 Destination ObjectKey가 동일하여 복사 작업을 중단: {}", sourceObjectKey);
+            return CompletableFuture.completedFuture(null);
         }
+        CopyObjectRequest copyRequest = CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(sourceObjectKey)
+                .destinationBucket(bucket)
+                .destinationKey(destinationObjectKey)
+                .build();
+        return s3AsyncClient.copyObject(copyRequest)
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("Object 복사 실패 {} -> {}", sourceObjectKey, destinationObjectKey, unwrap(e));
+                        throw new FileStorageException("Object 복사 요청처리 실패. FileStorage 상태를 확인하세요.", unwrap(e));
+                    }
+                    log.info("Object 복사 완료 : {} -> {}", sourceObjectKey, destinationObjectKey);
+                    presignedUrlCacheRepository.invalidate(sourceObjectKey);
+                    presignedUrlCacheRepository.invalidate(destinationObjectKey);
+                    return null;
+                });
+    }
+
+    public CompletableFuture<Void> deleteObjectAsync(String objectKey) {
+        DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .build();
+        return s3AsyncClient.deleteObject(deleteRequest)
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("Object 삭제 실패 : {}", objectKey, unwrap(e));
+                        throw new FileStorageException("Object 삭제 요청처리 실패. FileStorage 상태를 확인하세요.", unwrap(e));
+                    }
+                    log.info("Object 삭제 완료 : {}", objectKey);
+                    presignedUrlCacheRepository.invalidate(objectKey);
+                    return null;
+                });
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
 
 }
@@ -28,12 +28,13 @@ public class LikeLog {
     @Column(name = "like_log_id")
     private Long id;
 
+    // 월 단위 파티션 테이블은 외래 키를 지원하지 않으므로 제약 조건 없이 매핑
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id")
+    @JoinColumn(name = "member_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Member member;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "post_id")
+    @JoinColumn(name = "post_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Post post;
 
     @Enumerated(EnumType.STRING)
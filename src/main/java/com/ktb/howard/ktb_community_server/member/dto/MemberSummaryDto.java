@@ -0,0 +1,13 @@
+package com.ktb.howard.ktb_community_server.member.dto;
+
+import com.ktb.howard.ktb_community_server.member.domain.Member;
+
+import java.time.LocalDateTime;
+
+public record MemberSummaryDto(Integer memberId, String email, String nickname, LocalDateTime deletedAt) {
+
+    public static MemberSummaryDto from(Member member) {
+        return new MemberSummaryDto(member.getId(), member.getEmail(), member.getNickname(), member.getDeletedAt());
+    }
+
+}
@@ -2,7 +2,11 @@ package com.ktb.howard.ktb_community_server.member.repository;
 
 import com.ktb.howard.ktb_community_server.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -13,4 +17,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsByNickname(String nickname);
 
+    @Query("select m from Member m where m.id in :memberIds")
+    List<Member> findAllByIdIn(@Param("memberIds") Collection<Integer> memberIds);
+
 }
@@ -1,6 +1,7 @@
 package com.ktb.howard.ktb_community_server.member.service;
 
 import com.google.common.base.Strings;
+import com.ktb.howard.ktb_community_server.cache.repository.FeedFirstPageCacheRepository;
 import com.ktb.howard.ktb_community_server.image.domain.ImageType;
 import com.ktb.howard.ktb_community_server.image.dto.CreateImageViewUrlRequestDto;
 import com.ktb.howard.ktb_community_server.image.dto.ImageUrlResponseDto;
@@ -8,6 +9,7 @@ import com.ktb.howard.ktb_community_server.image.service.ImageService;
 import com.ktb.howard.ktb_community_server.member.domain.Member;
 import com.ktb.howard.ktb_community_server.member.dto.MemberCreateRequestDto;
 import com.ktb.howard.ktb_community_server.member.dto.MemberInfoResponseDto;
+import com.ktb.howard.ktb_community_server.member.dto.MemberSummaryDto;
 import com.ktb.howard.ktb_community_server.member.exception.AlreadyUsedEmailException;
 import com.ktb.howard.ktb_community_server.member.exception.AlreadyUsedNicknameException;
 import com.ktb.howard.ktb_community_server.member.exception.MemberNotFoundException;
@@ -19,8 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -28,6 +29,7 @@ import java.util.Optional;
 public class MemberService {
 
     private final ImageService imageService;
+    private final FeedFirstPageCacheRepository feedFirstPageCacheRepository;
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -72,29 +74,54 @@ public class MemberService {
 
     @Transactional(readOnly = true)
     public MemberInfoResponseDto getProfile(Integer memberId) {
+        Member member = memberRepository.findById(memberId.longValue())
+                .orElseThrow(() -> new MemberNotFoundException("존재하지 않는 회원입니다."));
+        if (member.getDeletedAt() != null) {
+            return toProfile(MemberSummaryDto.from(member), List.of());
+        }
         CreateImageViewUrlRequestDto request = new CreateImageViewUrlRequestDto(
                 ImageType.PROFILE,
                 memberId.longValue()
         );
-        Member member = memberRepository.findById(memberId.longValue())
-                .orElseThrow(() -> new MemberNotFoundException("존재하지 않는 회원입니다."));
-        String profileImageUrl = null;
-        Long imageId = null;
-        String email = null;
-        String nickname;
-        if (member.getDeletedAt() != null) {
-            // 탈퇴한 회원인 경우
-            nickname = "탈퇴한 회원";
-        } else {
-            List<ImageUrlResponseDto> response = imageService.createImageViewUrl(request);
-            if (!response.isEmpty()) {
-                imageId = response.getFirst().imageId();
-                profileImageUrl = response.getFirst().url();
-            }
-            email = member.getEmail();
-            nickname = member.getNickname();
+        return toProfile(MemberSummaryDto.from(member), imageService.createImageViewUrl(request));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Integer, MemberInfoResponseDto> getProfiles(Collection<Integer> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Member> members = memberRepository.findAllByIdIn(memberIds);
+        if (members.size() != new HashSet<>(memberIds).size()) {
+            log.error("존재하지 않는 회원이 포함된 프로필 조회 요청 : memberIds={}", memberIds);
+            throw new MemberNotFoundException("존재하지 않는 회원입니다.");
         }
-        return new MemberInfoResponseDto(email, nickname, imageId, profileImageUrl);
+        return resolveProfiles(members.stream().map(MemberSummaryDto::from).toList());
+    }
+
+    // 이미 조회된 회원 정보에 프로필 이미지를 IN 쿼리 한 번으로 붙여 프로필을 구성
+    @Transactional(readOnly = true)
+    public Map<Integer, MemberInfoResponseDto> resolveProfiles(Collection<MemberSummaryDto> members) {
+        if (members.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> activeMemberIds = members.stream()
+                .filter(m -> m.deletedAt() == null)
+                .map(m -> m.memberId().longValue())
+                .distinct()
+                .toList();
+        Map<Long, List<ImageUrlResponseDto>> profileImages = imageService.createImageViewUrls(
+                ImageType.PROFILE,
+                activeMemberIds
+        );
+        Map<Integer, MemberInfoResponseDto> profiles = new HashMap<>();
+        for (MemberSummaryDto member : members) {
+            profiles.computeIfAbsent(
+                    member.memberId(),
+                    id -> toProfile(member, profileImages.getOrDefault(id.longValue(), List.of()))
+            );
+        }
+        return profiles;
     }
 
     @Transactional
@@ -143,11 +170,30 @@ public class MemberService {
             log.info("새로운 프로필 이미지 영속화 : imageId={}, memberId={}", profileImageId, memberId);
             imageService.persistImage(profileImageId, member, member.getId().longValue(), 1);
         }
+        // 5. 게시글 목록 캐시에 노출되는 작성자 프로필이 바뀐 경우 캐시 무효화
+        if (nickname != null || Boolean.TRUE.equals(deleteProfileImage) || profileImageId != null) {
+            feedFirstPageCacheRepository.invalidate();
+        }
     }
 
     @Transactional
     public void deleteMember(Integer memberId) {
         memberRepository.deleteById(memberId.longValue());
+        feedFirstPageCacheRepository.invalidate();
+    }
+
+    private MemberInfoResponseDto toProfile(MemberSummaryDto member, List<ImageUrlResponseDto> profileImages) {
+        if (member.deletedAt() != null) {
+            // 탈퇴한 회원인 경우
+            return new MemberInfoResponseDto(null, "탈퇴한 회원", null, null);
+        }
+        Long imageId = null;
+        String profileImageUrl = null;
+        if (!profileImages.isEmpty()) {
+            imageId = profileImages.getFirst().imageId();
+            profileImageUrl = profileImages.getFirst().url();
+        }
+        return new MemberInfoResponseDto(member.email(), member.nickname(), imageId, profileImageUrl);
     }
 
 }
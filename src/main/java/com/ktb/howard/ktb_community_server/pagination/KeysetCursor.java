@@ -0,0 +1,45 @@
+package com.ktb.howard.ktb_community_server.pagination;
+
+import com.google.common.base.Strings;
+import com.ktb.howard.ktb_community_server.pagination.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+// (created_at, id) 쌍으로 목록의 마지막 위치를 표현하는 커서
+// 클라이언트에는 내부 구조를 알 수 없는 Base64 토큰 형태로만 노출한다.
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String FIRST_PAGE = "0";
+    private static final int TOKEN_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    // 토큰이 없거나 "0"인 경우 첫 페이지 요청으로 간주하여 null을 반환
+    public static KeysetCursor decode(String token) {
+        if (Strings.isNullOrEmpty(token) || FIRST_PAGE.equals(token)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != TOKEN_BYTES) {
+                throw new InvalidCursorException("유효하지 않은 커서입니다.", token);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new KeysetCursor(createdAt, buffer.getLong());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다.", token);
+        }
+    }
+
+}
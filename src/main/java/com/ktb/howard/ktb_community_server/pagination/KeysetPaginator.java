@@ -0,0 +1,42 @@
+package com.ktb.howard.ktb_community_server.pagination;
+
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+// (created_at DESC, id DESC) 순서의 Seek 방식 페이지네이션
+// OFFSET 없이 커서 이후의 범위만 읽으므로 (…, created_at) 인덱스를 타고, 몇 번째 페이지든 조회 비용이 동일하다.
+public final class KeysetPaginator {
+
+    private KeysetPaginator() { }
+
+    public static <T> KeysetSlice<T> fetch(
+            JPAQuery<T> query,
+            DateTimePath<LocalDateTime> createdAt,
+            NumberPath<Long> id,
+            KeysetCursor cursor,
+            int size,
+            Function<T, KeysetCursor> cursorExtractor
+    ) {
+        if (cursor != null) {
+            // created_at이 같은 행은 id로 순서를 확정하여 누락, 중복 없이 다음 페이지를 조회
+            query.where(createdAt.lt(cursor.createdAt())
+                    .or(createdAt.eq(cursor.createdAt()).and(id.lt(cursor.id()))));
+        }
+        // 다음 페이지 존재 여부 확인을 위해 1건을 더 조회
+        List<T> rows = query
+                .orderBy(createdAt.desc(), id.desc())
+                .limit(size + 1L)
+                .fetch();
+        if (rows.size() <= size) {
+            return new KeysetSlice<>(rows, null);
+        }
+        List<T> contents = rows.subList(0, size);
+        return new KeysetSlice<>(contents, cursorExtractor.apply(contents.getLast()));
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.ktb.howard.ktb_community_server.pagination;
+
+import com.ktb.howard.ktb_community_server.pagination.dto.CursorPageResponseDto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record KeysetSlice<T>(List<T> contents, KeysetCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> KeysetSlice<R> map(Function<T, R> mapper) {
+        return new KeysetSlice<>(contents.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public <R> CursorPageResponseDto<R> toResponse(Function<T, R> mapper) {
+        return toResponse(contents.stream().map(mapper).toList());
+    }
+
+    public <R> CursorPageResponseDto<R> toResponse(List<R> mappedContents) {
+        return new CursorPageResponseDto<>(
+                mappedContents,
+                hasNext() ? nextCursor.encode() : null,
+                hasNext()
+        );
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.ktb.howard.ktb_community_server.pagination.dto;
+
+import java.util.List;
+
+public record CursorPageResponseDto<T>(List<T> contents, String nextCursor, Boolean hasNext) { }
@@ -0,0 +1,15 @@
+package com.ktb.howard.ktb_community_server.pagination.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidCursorException extends RuntimeException {
+
+    private final String cursor;
+
+    public InvalidCursorException(String message, String cursor) {
+        super(message);
+        this.cursor = cursor;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.ktb.howard.ktb_community_server.partition.repository;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+@Repository
+public class LogPartitionRepository {
+
+    // 모든 월별 파티션보다 이후의 로그를 받는 파티션
+    public static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 파티션 순서대로 파티션 이름을 반환. 파티션 테이블이 아니면 빈 목록을 반환한다.
+    public List<String> findPartitionNames(String tableName) {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class,
+                tableName
+        ).stream().filter(Objects::nonNull).toList();
+    }
+
+    // p_future를 나누어 months의 월별 파티션을 추가. months는 기존 월별 파티션 이후의 연속된 월이어야 한다.
+    public void addMonthlyPartitions(String tableName, List<YearMonth> months) {
+        String partitions = months.stream()
+                .map(m -> String.format(
+                        "PARTITION %s VALUES LESS THAN (UNIX_TIMESTAMP('%s 00:00:00'))",
+                        partitionName(m),
+                        m.plusMonths(1).atDay(1)
+                ))
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE %s REORGANIZE PARTITION %s INTO (%s, PARTITION %s VALUES LESS THAN MAXVALUE)",
+                tableName, FUTURE_PARTITION, partitions, FUTURE_PARTITION
+        ));
+    }
+
+    public void dropPartition(String tableName, String partitionName) {
+        jdbcTemplate.execute(String.format("ALTER TABLE %s DROP PARTITION %s", tableName, partitionName));
+    }
+
+    // 파티션에 남아 있는 로그의 최대 ID. 비어 있으면 0
+    public long findMaxId(String tableName, String idColumnName, String partitionName) {
+        Long maxId = jdbcTemplate.queryForObject(
+                String.format("SELECT COALESCE(MAX(%s), 0) FROM %s PARTITION (%s)", idColumnName, tableName, partitionName),
+                Long.class
+        );
+        return maxId == null ? 0 : maxId;
+    }
+
+    public static String partitionName(YearMonth month) {
+        return month.format(PARTITION_NAME_FORMAT);
+    }
+
+    // 월별 파티션 이름이 아니면 null
+    public static YearMonth parseMonth(String partitionName) {
+        if (!partitionName.matches("p\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(partitionName, PARTITION_NAME_FORMAT);
+    }
+
+}
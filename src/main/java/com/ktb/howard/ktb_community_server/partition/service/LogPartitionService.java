@@ -0,0 +1,97 @@
+package com.ktb.howard.ktb_community_server.partition.service;
+
+import com.ktb.howard.ktb_community_server.partition.repository.LogPartitionRepository;
+import com.ktb.howard.ktb_community_server.rollup.repository.LogRollupRepository;
+import com.ktb.howard.ktb_community_server.rollup.repository.LogRollupRepository.RollupLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// view_log, like_log의 월별 파티션을 관리
+// - 로그는 created_at 기준으로 MySQL이 해당 월의 파티션에 기록하므로, 로그를 기록하는 쪽은 파티션을 알 필요가 없다.
+// - 현재 월부터 months-ahead개월 뒤까지의 파티션을 미리 만들어, 로그가 p_future에 쌓이지 않도록 한다.
+// - 보관 기간이 지난 파티션은 DELETE 대신 파티션을 통째로 삭제한다.
+//   단, 시간별 집계에 아직 반영되지 않은 로그가 남아 있는 파티션은 삭제하지 않는다.
+@Slf4j
+@Service
+public class LogPartitionService {
+
+    private final LogPartitionRepository logPartitionRepository;
+    private final LogRollupRepository logRollupRepository;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public LogPartitionService(
+            LogPartitionRepository logPartitionRepository,
+            LogRollupRepository logRollupRepository,
+            @Value("${app.log-partition.months-ahead:2}") int monthsAhead,
+            @Value("${app.log-partition.retention-months:6}") int retentionMonths
+    ) {
+        this.logPartitionRepository = logPartitionRepository;
+        this.logRollupRepository = logRollupRepository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    public void maintainAll() {
+        YearMonth now = YearMonth.now();
+        for (RollupLog logTable : RollupLog.values()) {
+            try {
+                List<String> partitionNames = logPartitionRepository.findPartitionNames(logTable.getTableName());
+                if (!partitionNames.contains(LogPartitionRepository.FUTURE_PARTITION)) {
+                    log.warn("[파티션 관리] {}는 월 단위 파티션 테이블이 아니므로 건너뜀", logTable.getTableName());
+                    continue;
+                }
+                createPartitions(logTable, partitionNames, now);
+                dropExpiredPartitions(logTable, partitionNames, now);
+            } catch (RuntimeException e) {
+                log.error("[파티션 관리] {} 파티션 관리 실패", logTable.getTableName(), e);
+            }
+        }
+    }
+
+    private void createPartitions(RollupLog logTable, List<String> partitionNames, YearMonth now) {
+        // 마지막 월별 파티션의 다음 달부터 생성. 월별 파티션이 없으면 현재 월부터 생성한다.
+        YearMonth next = partitionNames.stream()
+                .map(LogPartitionRepository::parseMonth)
+                .filter(Objects::nonNull)
+                .max(YearMonth::compareTo)
+                .map(m -> m.plusMonths(1))
+                .orElse(now);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth m = next; !m.isAfter(now.plusMonths(monthsAhead)); m = m.plusMonths(1)) {
+            months.add(m);
+        }
+        if (months.isEmpty()) {
+            return;
+        }
+        logPartitionRepository.addMonthlyPartitions(logTable.getTableName(), months);
+        log.info("[파티션 관리] {} 파티션 생성 : {} ~ {}", logTable.getTableName(), months.getFirst(), months.getLast());
+    }
+
+    private void dropExpiredPartitions(RollupLog logTable, List<String> partitionNames, YearMonth now) {
+        YearMonth oldestRetained = now.minusMonths(retentionMonths);
+        long watermark = logRollupRepository.findWatermark(logTable);
+        for (String partitionName : partitionNames) {
+            YearMonth month = LogPartitionRepository.parseMonth(partitionName);
+            if (month == null || !month.isBefore(oldestRetained)) {
+                continue;
+            }
+            long maxId = logPartitionRepository.findMaxId(logTable.getTableName(), logTable.getIdColumnName(), partitionName);
+            if (maxId > watermark) {
+                log.warn("[파티션 관리] {}.{}에 집계되지 않은 로그가 남아 있어 삭제를 미룸 : maxId={}, watermark={}",
+                        logTable.getTableName(), partitionName, maxId, watermark);
+                // 이후 파티션의 로그 ID는 더 크므로 더 확인하지 않음
+                return;
+            }
+            logPartitionRepository.dropPartition(logTable.getTableName(), partitionName);
+            log.info("[파티션 관리] {}.{} 삭제", logTable.getTableName(), partitionName);
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package com.ktb.howard.ktb_community_server.post.controller;
 
 import com.ktb.howard.ktb_community_server.auth.dto.CustomUser;
 import com.ktb.howard.ktb_community_server.like_log.domain.LikeLogType;
+import com.ktb.howard.ktb_community_server.pagination.dto.CursorPageResponseDto;
 import com.ktb.howard.ktb_community_server.post.dto.*;
 import com.ktb.howard.ktb_community_server.post.service.PostService;
 import jakarta.validation.Valid;
@@ -12,7 +13,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
@@ -40,11 +40,12 @@ public class PostController {
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public ResponseEntity<List<GetPostsResponseDto>> getPosts(
-            @RequestParam("cursor") Long cursor,
+    public ResponseEntity<CursorPageResponseDto<GetPostsResponseDto>> getPosts(
+            @AuthenticationPrincipal CustomUser loginMember,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam("size") Integer size
     ) {
-        List<GetPostsResponseDto> posts = postService.getPosts(cursor, size);
+        CursorPageResponseDto<GetPostsResponseDto> posts = postService.getPosts(loginMember.getId(), cursor, size);
         return ResponseEntity.ok(posts);
     }
 
@@ -64,12 +64,4 @@ public class Post extends BaseEntity {
         this.content = content;
     }
 
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        this.commentCount--;
-    }
-
 }
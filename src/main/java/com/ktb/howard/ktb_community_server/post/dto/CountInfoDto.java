@@ -1,3 +1,3 @@
 package com.ktb.howard.ktb_community_server.post.dto;
 
-public record CountInfoDto(Integer likeCount, Long viewCount) { }
+public record CountInfoDto(Long postId, Integer likeCount, Long viewCount, Long commentCount) { }
@@ -11,5 +11,20 @@ public record GetPostsResponseDto(
         Long commentCount,
         Long viewCount,
         LocalDateTime createdAt,
-        MemberInfoResponseDto writer
-) { }
+        MemberInfoResponseDto writer,
+        Boolean isLiked
+) {
+
+    public GetPostsResponseDto withTitle(String title) {
+        return new GetPostsResponseDto(postId, title, likeCount, commentCount, viewCount, createdAt, writer, isLiked);
+    }
+
+    public GetPostsResponseDto withCounts(Integer likeCount, Long commentCount, Long viewCount) {
+        return new GetPostsResponseDto(postId, title, likeCount, commentCount, viewCount, createdAt, writer, isLiked);
+    }
+
+    public GetPostsResponseDto withLiked(Boolean isLiked) {
+        return new GetPostsResponseDto(postId, title, likeCount, commentCount, viewCount, createdAt, writer, isLiked);
+    }
+
+}
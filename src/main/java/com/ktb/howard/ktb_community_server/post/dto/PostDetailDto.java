@@ -27,6 +27,8 @@ public class PostDetailDto {
 
     private Long viewCount;
 
+    private Long uniqueViewerCount;
+
     private Long commentCount;
 
     private Boolean isLiked;
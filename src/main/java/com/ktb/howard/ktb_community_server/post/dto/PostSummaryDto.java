@@ -0,0 +1,26 @@
+package com.ktb.howard.ktb_community_server.post.dto;
+
+import com.ktb.howard.ktb_community_server.member.dto.MemberSummaryDto;
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.LocalDateTime;
+
+public record PostSummaryDto(
+        Long postId,
+        String title,
+        Integer likeCount,
+        Long viewCount,
+        Long commentCount,
+        LocalDateTime createdAt,
+        Integer writerId,
+        String writerEmail,
+        String writerNickname,
+        LocalDateTime writerDeletedAt
+) {
+    @QueryProjection
+    public PostSummaryDto { }
+
+    public MemberSummaryDto writer() {
+        return new MemberSummaryDto(writerId, writerEmail, writerNickname, writerDeletedAt);
+    }
+}
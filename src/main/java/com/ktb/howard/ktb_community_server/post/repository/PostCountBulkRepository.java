@@ -0,0 +1,53 @@
+package com.ktb.howard.ktb_community_server.post.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+@Repository
+public class PostCountBulkRepository {
+
+    // SQL에 직접 들어가는 컬럼명이므로 허용된 컬럼만 사용하도록 제한
+    @Getter
+    @AllArgsConstructor
+    public enum CountColumn {
+        VIEW_COUNT("view_count"),
+        LIKE_COUNT("like_count"),
+        COMMENT_COUNT("comment_count");
+
+        private final String columnName;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 여러 게시글의 카운트 변화량을 하나의 UPDATE 문으로 반영
+    // UPDATE post SET view_count = view_count + CASE post_id WHEN ? THEN ? ... END WHERE post_id IN (?, ...)
+    public int addCounts(CountColumn column, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        String columnName = column.getColumnName();
+        StringBuilder sql = new StringBuilder()
+                .append("UPDATE post SET ").append(columnName).append(" = ").append(columnName)
+                .append(" + CASE post_id");
+        List<Object> params = new ArrayList<>(deltas.size() * 3);
+        deltas.forEach((postId, delta) -> {
+            sql.append(" WHEN ? THEN ?");
+            params.add(postId);
+            params.add(delta);
+        });
+        sql.append(" ELSE 0 END WHERE post_id IN (")
+                .append(String.join(", ", Collections.nCopies(deltas.size(), "?")))
+                .append(")");
+        params.addAll(deltas.keySet());
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+}
@@ -1,13 +1,23 @@
 package com.ktb.howard.ktb_community_server.post.repository;
 
+import com.ktb.howard.ktb_community_server.pagination.KeysetCursor;
+import com.ktb.howard.ktb_community_server.pagination.KeysetPaginator;
+import com.ktb.howard.ktb_community_server.pagination.KeysetSlice;
+import com.ktb.howard.ktb_community_server.post.dto.CountInfoDto;
 import com.ktb.howard.ktb_community_server.post.dto.PostDetailWithLikeInfoDto;
+import com.ktb.howard.ktb_community_server.post.dto.PostSummaryDto;
 import com.ktb.howard.ktb_community_server.post.dto.QPostDetailWithLikeInfoDto;
+import com.ktb.howard.ktb_community_server.post.dto.QPostSummaryDto;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import static com.ktb.howard.ktb_community_server.member.domain.QMember.member;
 import static com.ktb.howard.ktb_community_server.post.domain.QPost.post;
 import static com.ktb.howard.ktb_community_server.post_like.domain.QPostLike.postLike;
 
@@ -17,6 +27,32 @@ public class PostQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    // 목록 조회에 필요한 컬럼만 DTO로 조회하여, 본문(LONGTEXT) 로딩과 엔티티 생성 비용을 피함
+    public KeysetSlice<PostSummaryDto> findPostSummaries(KeysetCursor cursor, int size) {
+        return KeysetPaginator.fetch(
+                queryFactory
+                        .select(new QPostSummaryDto(
+                                post.id,
+                                post.title,
+                                post.likeCount,
+                                post.viewCount,
+                                post.commentCount,
+                                post.createdAt,
+                                member.id,
+                                member.email,
+                                member.nickname,
+                                member.deletedAt
+                        ))
+                        .from(post)
+                        .join(post.writer, member),
+                post.createdAt,
+                post.id,
+                cursor,
+                size,
+                p -> new KeysetCursor(p.createdAt(), p.postId())
+        );
+    }
+
     public Optional<PostDetailWithLikeInfoDto> getPostDetail(Long postId, Integer memberId) {
         PostDetailWithLikeInfoDto postDetail = queryFactory
                 .select(new QPostDetailWithLikeInfoDto(
@@ -40,4 +76,37 @@ public class PostQueryRepository {
         return Optional.ofNullable(postDetail);
     }
 
+    // id 역순으로 최근 게시글의 카운트를 chunk 단위로 조회 (캐시 워밍업용)
+    public List<CountInfoDto> findRecentCountInfos(Long beforePostId, int size) {
+        return queryFactory
+                .select(countInfo())
+                .from(post)
+                .where(beforePostId == null ? null : post.id.lt(beforePostId))
+                .orderBy(post.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<CountInfoDto> findMostLikedCountInfos(int size) {
+        return queryFactory
+                .select(countInfo())
+                .from(post)
+                .orderBy(post.likeCount.desc(), post.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<CountInfoDto> findMostViewedCountInfos(int size) {
+        return queryFactory
+                .select(countInfo())
+                .from(post)
+                .orderBy(post.viewCount.desc(), post.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private static ConstructorExpression<CountInfoDto> countInfo() {
+        return Projections.constructor(CountInfoDto.class, post.id, post.likeCount, post.viewCount, post.commentCount);
+    }
+
 }
@@ -0,0 +1,54 @@
+package com.ktb.howard.ktb_community_server.post.repository;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+@AllArgsConstructor
+@Repository
+public class PostViewerSketchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장된 스케치를 행 잠금과 함께 조회하여, 병합 후 저장하기 전까지 다른 서버가 덮어쓰지 않도록 함
+    // 트랜잭션 안에서 호출해야 한다.
+    public Map<Long, byte[]> findRegistersForUpdate(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        String sql = "SELECT post_id, registers FROM post_viewer_sketch WHERE post_id IN ("
+                + String.join(", ", Collections.nCopies(postIds.size(), "?")) + ") FOR UPDATE";
+        Map<Long, byte[]> registers = new HashMap<>();
+        jdbcTemplate.query(
+                sql,
+                rs -> {
+                    registers.put(rs.getLong("post_id"), rs.getBytes("registers"));
+                },
+                postIds.toArray()
+        );
+        return registers;
+    }
+
+    // 잠금 없이 저장된 스케치를 조회
+    public Optional<byte[]> findRegisters(Long postId) {
+        List<byte[]> registers = jdbcTemplate.queryForList(
+                "SELECT registers FROM post_viewer_sketch WHERE post_id = ?",
+                byte[].class,
+                postId
+        );
+        return registers.stream().findFirst();
+    }
+
+    public void upsertAll(Map<Long, byte[]> sketches) {
+        List<Object[]> params = new ArrayList<>(sketches.size());
+        sketches.forEach((postId, registers) -> params.add(new Object[]{postId, registers}));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO post_viewer_sketch (post_id, registers) VALUES (?, ?) " +
+                        "ON DUPLICATE KEY UPDATE registers = VALUES(registers)",
+                params
+        );
+    }
+
+}
@@ -1,11 +1,14 @@
 package com.ktb.howard.ktb_community_server.post.service;
 
 import com.google.common.base.Strings;
-import com.ktb.howard.ktb_community_server.cache.repository.LikeCountCacheRepository;
-import com.ktb.howard.ktb_community_server.cache.repository.ViewCountCacheRepository;
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
+import com.ktb.howard.ktb_community_server.cache.repository.FeedFirstPageCacheRepository;
+import com.ktb.howard.ktb_community_server.cache.repository.RecentViewCacheRepository;
+import com.ktb.howard.ktb_community_server.cache.repository.UniqueViewerSketchRepository;
 import com.ktb.howard.ktb_community_server.image.domain.Image;
 import com.ktb.howard.ktb_community_server.image.domain.ImageType;
 import com.ktb.howard.ktb_community_server.image.dto.CreateImageViewUrlRequestDto;
+import com.ktb.howard.ktb_community_server.image.dto.PersistImageRequestDto;
 import com.ktb.howard.ktb_community_server.image.service.ImageService;
 import com.ktb.howard.ktb_community_server.like_log.domain.LikeLogType;
 import com.ktb.howard.ktb_community_server.like_log.service.LikeLogService;
@@ -13,6 +16,9 @@ import com.ktb.howard.ktb_community_server.member.domain.Member;
 import com.ktb.howard.ktb_community_server.member.dto.MemberInfoResponseDto;
 import com.ktb.howard.ktb_community_server.member.repository.MemberRepository;
 import com.ktb.howard.ktb_community_server.member.service.MemberService;
+import com.ktb.howard.ktb_community_server.pagination.KeysetCursor;
+import com.ktb.howard.ktb_community_server.pagination.KeysetSlice;
+import com.ktb.howard.ktb_community_server.pagination.dto.CursorPageResponseDto;
 import com.ktb.howard.ktb_community_server.post.domain.Post;
 import com.ktb.howard.ktb_community_server.post.dto.*;
 import com.ktb.howard.ktb_community_server.post.exception.PostNotFoundException;
@@ -20,11 +26,10 @@ import com.ktb.howard.ktb_community_server.post.repository.PostQueryRepository;
 import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
 import com.ktb.howard.ktb_community_server.post_like.exception.InvalidLikeLogTypeException;
 import com.ktb.howard.ktb_community_server.post_like.service.PostLikeService;
+import com.ktb.howard.ktb_community_server.transaction.TransactionCallbacks;
 import com.ktb.howard.ktb_community_server.view_log.service.ViewLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,8 +50,12 @@ public class PostService {
     private final PostQueryRepository postQueryRepository;
     private final PostLikeService postLikeService;
     private final MemberRepository memberRepository;
-    private final LikeCountCacheRepository likeCountCacheRepository;
-    private final ViewCountCacheRepository viewCountCacheRepository;
+    private final CountCache likeCountCache;
+    private final CountCache viewCountCache;
+    private final CountCache commentCountCache;
+    private final FeedFirstPageCacheRepository feedFirstPageCacheRepository;
+    private final RecentViewCacheRepository recentViewCacheRepository;
+    private final UniqueViewerSketchRepository uniqueViewerSketchRepository;
     private final LikeLogService likeLogService;
 
     @Transactional
@@ -70,9 +79,15 @@ public class PostService {
                     log.error("이미지 {}가 존재하지 않습니다.", i.imageId());
                     throw new IllegalStateException(String.format("이미지 %d가 존재하지 않습니다.", i.imageId()));
                 }
-                imageService.persistImage(i.imageId(), writer, post.getId(), i.sequence());
             });
+            // 게시글의 이미지들을 동시에 이동
+            imageService.persistImages(
+                    postImages.stream().map(i -> new PersistImageRequestDto(i.imageId(), i.sequence())).toList(),
+                    writer,
+                    post.getId()
+            );
         }
+        feedFirstPageCacheRepository.invalidate(); // 새 게시글이 첫 페이지에 노출되도록 캐시 무효화
 
         return new CreatePostResponseDto(
                 post.getId(),
@@ -84,24 +99,72 @@ public class PostService {
     }
 
     @Transactional(readOnly = true)
-    public List<GetPostsResponseDto> getPosts(Long cursor, Integer size) {
-        PageRequest pageRequest = PageRequest.of(0, size);
-        Slice<Post> posts;
-        if (cursor == 0) posts = postRepository.findPosts(pageRequest);
-        else posts = postRepository.findPostsNextPage(cursor, pageRequest);
-        return posts.stream()
-                .map(p -> {
-                    MemberInfoResponseDto profile = memberService.getProfile(p.getWriter().getId());
-                    return new GetPostsResponseDto(
-                            p.getId(),
-                            p.getTitle(),
-                            likeCountCacheRepository.get(p.getId()).intValue(),
-                            p.getCommentCount(),
-                            viewCountCacheRepository.get(p.getId()),
-                            p.getCreatedAt(),
-                            profile
-                    );
-                }).toList();
+    public CursorPageResponseDto<GetPostsResponseDto> getPosts(Integer memberId, String cursor, Integer size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        KeysetSlice<GetPostsResponseDto> posts;
+        if (keysetCursor == null && feedFirstPageCacheRepository.isCacheable(size)) {
+            posts = getFirstPageFromCache(size);
+        } else {
+            posts = findPosts(keysetCursor, size);
+        }
+        // 좋아요 여부는 회원마다 다르므로 캐시하지 않고, 페이지의 게시글에 대해 IN 쿼리 한 번으로 조회
+        Set<Long> likedPostIds = postLikeService.findLikedPostIds(
+                memberId,
+                posts.contents().stream().map(GetPostsResponseDto::postId).toList()
+        );
+        return posts.map(p -> p.withLiked(likedPostIds.contains(p.postId()))).toResponse(Function.identity());
+    }
+
+    private KeysetSlice<GetPostsResponseDto> getFirstPageFromCache(int size) {
+        FeedFirstPageCacheRepository.Snapshot snapshot = feedFirstPageCacheRepository.find().orElseGet(() -> {
+            long version = feedFirstPageCacheRepository.currentVersion();
+            KeysetSlice<GetPostsResponseDto> firstPage = findPosts(null, feedFirstPageCacheRepository.getCapacity());
+            return feedFirstPageCacheRepository.store(version, firstPage.contents(), firstPage.hasNext());
+        });
+        List<GetPostsResponseDto> cachedPosts = snapshot.posts();
+        List<GetPostsResponseDto> page = cachedPosts.subList(0, Math.min(size, cachedPosts.size()));
+        List<Long> postIds = page.stream().map(GetPostsResponseDto::postId).toList();
+        Map<Long, Long> likeCounts = likeCountCache.getAll(postIds);
+        Map<Long, Long> viewCounts = viewCountCache.getAll(postIds);
+        Map<Long, Long> commentCounts = commentCountCache.getAll(postIds);
+        // 스냅샷의 카운트 대신 최신 캐시 값을 덮어써서 반환
+        List<GetPostsResponseDto> posts = page.stream()
+                .map(p -> p.withCounts(
+                        likeCounts.get(p.postId()).intValue(),
+                        commentCounts.get(p.postId()),
+                        viewCounts.get(p.postId())
+                ))
+                .toList();
+        boolean hasNext = size < cachedPosts.size() || snapshot.hasMore();
+        KeysetCursor nextCursor = null;
+        if (hasNext && !posts.isEmpty()) {
+            GetPostsResponseDto last = posts.getLast();
+            nextCursor = new KeysetCursor(last.createdAt(), last.postId());
+        }
+        return new KeysetSlice<>(posts, nextCursor);
+    }
+
+    private KeysetSlice<GetPostsResponseDto> findPosts(KeysetCursor cursor, int size) {
+        KeysetSlice<PostSummaryDto> posts = postQueryRepository.findPostSummaries(cursor, size);
+        // 페이지에 포함된 작성자들의 프로필을 한 번에 조회
+        Map<Integer, MemberInfoResponseDto> profiles = memberService.resolveProfiles(
+                posts.contents().stream().map(PostSummaryDto::writer).toList()
+        );
+        // 캐시에 없는 게시글의 카운트는 IN 쿼리 한 번으로 좋아요 수, 조회수, 댓글 수 캐시를 함께 채움
+        List<Long> postIds = posts.contents().stream().map(PostSummaryDto::postId).toList();
+        Map<Long, Long> likeCounts = likeCountCache.getAll(postIds);
+        Map<Long, Long> viewCounts = viewCountCache.getAll(postIds);
+        Map<Long, Long> commentCounts = commentCountCache.getAll(postIds);
+        return posts.map(p -> new GetPostsResponseDto(
+                p.postId(),
+                p.title(),
+                likeCounts.get(p.postId()).intValue(),
+                commentCounts.get(p.postId()),
+                viewCounts.get(p.postId()),
+                p.createdAt(),
+                profiles.get(p.writerId()),
+                null
+        ));
     }
 
     @Transactional
@@ -116,17 +179,22 @@ public class PostService {
                 .stream()
                 .map(pi -> new PostImageInfoDto(pi.imageId(), pi.url(), pi.sequence(), pi.expiresAt()))
                 .toList();
-        viewCountCacheRepository.increaseCount(postId); // Cache에 조회수 갱신
-        viewLogService.createViewLog(postId, requestMemberId); // 조회 이벤트에 대한 로그 추가
+        uniqueViewerSketchRepository.addViewer(postId, requestMemberId); // 순 조회자 수 스케치 갱신 (중복 조회는 추정값에 영향 없음)
+        // 조회 시간대 안에 다시 조회한 경우 조회수와 조회 로그를 남기지 않음
+        if (recentViewCacheRepository.markViewed(postId, requestMemberId)) {
+            viewCountCache.increaseCount(postId); // Cache에 조회수 갱신
+            viewLogService.createViewLog(postId, requestMemberId); // 조회 이벤트에 대한 로그 추가
+        }
         return PostDetailDto.builder()
                 .postId(postId)
                 .writer(profile)
                 .postImages(postImages)
                 .title(postDetail.title())
                 .content(postDetail.content())
-                .likeCount(likeCountCacheRepository.get(postId).intValue())
-                .viewCount(viewCountCacheRepository.get(postId))
-                .commentCount(postDetail.commentCount())
+                .likeCount(likeCountCache.get(postId).intValue())
+                .viewCount(viewCountCache.get(postId))
+                .uniqueViewerCount(uniqueViewerSketchRepository.estimate(postId))
+                .commentCount(commentCountCache.get(postId))
                 .isLiked(postDetail.isLiked())
                 .createdAt(postDetail.createdAt())
                 .build();
@@ -134,13 +202,16 @@ public class PostService {
 
     @Transactional
     public void likePost(Long postId, Integer memberId, LikeLogType type) {
-        postLikeService.updatePostLike(postId, memberId, type); // 게시글 좋아요 정보 업데이트
+        // 게시글 좋아요 정보 업데이트. 상태가 바뀌지 않은 중복 요청은 로그와 캐시에 반영하지 않음
+        if (!postLikeService.updatePostLike(postId, memberId, type)) {
+            return;
+        }
         likeLogService.createLikeLog(postId, memberId, type);   // 게시글 좋아요 로그 추가
-        // 캐시정보 갱신
+        // 캐시정보 갱신. 롤백된 좋아요가 변화량으로 남지 않도록 커밋 이후에 기록
         if (LikeLogType.LIKE.equals(type)) {
-            likeCountCacheRepository.increaseCount(postId);
+            TransactionCallbacks.afterCommit(() -> likeCountCache.increaseCount(postId));
         } else if (LikeLogType.CANCEL.equals(type)) {
-            likeCountCacheRepository.decreaseCount(postId);
+            TransactionCallbacks.afterCommit(() -> likeCountCache.decreaseCount(postId));
         } else {
             log.error("유효하지 않은 좋아요 로그 타입 : {}", type);
             throw new InvalidLikeLogTypeException("유효하지 않은 좋아요 로그 타입입니다.");
@@ -168,6 +239,7 @@ public class PostService {
         // 3. 제목에 대한 변경요청이 있는 경우 업데이트를 진행함
         if (!Strings.isNullOrEmpty(title)) {
             post.updateTitle(title);
+            feedFirstPageCacheRepository.patchTitle(postId, title);
         }
         // 4. 본문에 대한 변경요청이 있는 경우 업데이트를 진행함
         if (!Strings.isNullOrEmpty(content)) {
@@ -185,11 +257,15 @@ public class PostService {
                     .collect(Collectors.toSet());
 
             // 3-3. 삭제 대상 처리 (기존 이미지 중 요청에 없는 것)
-            existingImageMap.keySet().stream()
+            List<Long> deleteImageIds = existingImageMap.keySet().stream()
                     .filter(existingId -> !requestImageIds.contains(existingId))
-                    .forEach(imageService::deleteImage); // imageId로 soft-delete
+                    .toList();
+            if (!deleteImageIds.isEmpty()) {
+                imageService.deleteImages(deleteImageIds); // imageId로 soft-delete
+            }
 
             // 3-4. 추가 및 순서 변경 처리
+            List<PersistImageRequestDto> persistImages = new ArrayList<>();
             for (PostImageRequestInfoDto requestImage : requestImages) {
                 Long imageId = requestImage.imageId();
                 Integer newSequence = requestImage.sequence();
@@ -201,9 +277,12 @@ public class PostService {
                     }
                 } else {
                     // 추가 대상: 이미지를 영속화하고 게시글과 연결
-                    imageService.persistImage(imageId, post.getWriter(), postId, requestImage.sequence());
+                    persistImages.add(new PersistImageRequestDto(imageId, newSequence));
                 }
             }
+            if (!persistImages.isEmpty()) {
+                imageService.persistImages(persistImages, post.getWriter(), postId);
+            }
         }
     }
 
@@ -214,9 +293,11 @@ public class PostService {
         if (!loginMemberId.equals(findPost.getWriter().getId())) {
             throw new AccessDeniedException("올바르지 않은 요청입니다.");
         }
-        likeCountCacheRepository.remove(postId); // 좋아요 수 캐시에서 해당 post 제거
-        viewCountCacheRepository.remove(postId); // 조회수 캐시에서 해당 post 제거
+        likeCountCache.remove(postId); // 좋아요 수 캐시에서 해당 post 제거
+        viewCountCache.remove(postId); // 조회수 캐시에서 해당 post 제거
+        commentCountCache.remove(postId); // 댓글 수 캐시에서 해당 post 제거
         postRepository.deleteById(postId);
+        feedFirstPageCacheRepository.invalidate();
     }
 
 }
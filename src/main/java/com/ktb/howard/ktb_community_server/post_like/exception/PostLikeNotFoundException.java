@@ -1,7 +0,0 @@
-package com.ktb.howard.ktb_community_server.post_like.exception;
-
-public class PostLikeNotFoundException extends RuntimeException {
-    public PostLikeNotFoundException(String message) {
-        super(message);
-    }
-}
@@ -3,9 +3,12 @@ package com.ktb.howard.ktb_community_server.post_like.repository;
 import com.ktb.howard.ktb_community_server.post.domain.Post;
 import com.ktb.howard.ktb_community_server.post_like.domain.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -17,4 +20,33 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     );
 
     PostLike post(Post post);
+
+    // UNIQUE (member_id, post_id) 인덱스만으로 회원이 좋아요한 게시글 ID를 한 번에 조회
+    @Query("select pl.post.id from PostLike pl where pl.member.id = :memberId and pl.post.id in :postIds")
+    List<Long> findLikedPostIds(
+            @Param("memberId") Integer memberId,
+            @Param("postIds") Collection<Long> postIds
+    );
+
+    // 삭제되지 않은 게시글에 대해서만 좋아요를 추가하며, 이미 좋아요한 경우 UNIQUE (member_id, post_id)에 의해 아무것도 바꾸지 않음
+    // 반환값이 1인 경우에만 실제로 좋아요가 추가된 것이다. 외래 키 위반 등 중복 외의 오류는 그대로 예외가 된다.
+    // 바뀌지 않은 중복 행을 0으로 세어야 하므로 JDBC URL에 useAffectedRows=true가 필요하다.
+    @Modifying
+    @Query(value = "INSERT INTO post_like (member_id, post_id) " +
+            "SELECT :memberId, p.post_id FROM post p WHERE p.post_id = :postId AND p.deleted_at IS NULL " +
+            "ON DUPLICATE KEY UPDATE post_like_id = post_like_id",
+            nativeQuery = true)
+    int insertIfAbsent(
+            @Param("postId") Long postId,
+            @Param("memberId") Integer memberId
+    );
+
+    // 반환값이 1인 경우에만 실제로 좋아요가 취소된 것이다.
+    @Modifying
+    @Query(value = "DELETE FROM post_like WHERE post_id = :postId AND member_id = :memberId", nativeQuery = true)
+    int deleteIfPresent(
+            @Param("postId") Long postId,
+            @Param("memberId") Integer memberId
+    );
+
 }
@@ -1,15 +1,10 @@
 package com.ktb.howard.ktb_community_server.post_like.service;
 
 import com.ktb.howard.ktb_community_server.like_log.domain.LikeLogType;
-import com.ktb.howard.ktb_community_server.member.domain.Member;
+import com.ktb.howard.ktb_community_server.member.exception.MemberNotFoundException;
 import com.ktb.howard.ktb_community_server.member.repository.MemberRepository;
-import com.ktb.howard.ktb_community_server.post.domain.Post;
 import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
-import com.ktb.howard.ktb_community_server.post_like.domain.PostLike;
-import com.ktb.howard.ktb_community_server.member.exception.MemberNotFoundException;
 import com.ktb.howard.ktb_community_server.post_like.exception.InvalidLikeLogTypeException;
-import com.ktb.howard.ktb_community_server.post_like.exception.PostLikeAlreadyExistException;
-import com.ktb.howard.ktb_community_server.post_like.exception.PostLikeNotFoundException;
 import com.ktb.howard.ktb_community_server.post.exception.PostNotFoundException;
 import com.ktb.howard.ktb_community_server.post_like.repository.PostLikeRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +12,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -28,39 +25,52 @@ public class PostLikeService {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
 
+    // 좋아요 상태를 한 번의 쿼리로 변경하고, 실제로 상태가 바뀐 경우에만 true를 반환
+    // 이미 좋아요한 게시글에 다시 좋아요하거나, 좋아요하지 않은 게시글을 취소하는 요청은 아무것도 바꾸지 않는다. (멱등)
+    // 동시에 들어온 같은 요청도 UNIQUE (member_id, post_id)와 영향받은 행 수로 한 번만 반영된다.
     @Transactional
-    public void updatePostLike(Long postId, Integer memberId, LikeLogType type) {
-        Optional<PostLike> postLikeOpt = postLikeRepository.findPostLikeByPostIdAndMemberId(postId, memberId);
+    public boolean updatePostLike(Long postId, Integer memberId, LikeLogType type) {
         if (LikeLogType.LIKE.equals(type)) {
-            if (postLikeOpt.isPresent()) {
-                log.error("이미 '좋아요'한 게시글 : postId={}, member={}", postId, memberId);
-                throw new PostLikeAlreadyExistException("이미 해당 게시글에 좋아요 한 상태입니다.");
+            if (postLikeRepository.insertIfAbsent(postId, memberId) == 1) {
+                return true;
             }
-            Post post = postRepository.findById(postId)
-                    .orElseThrow(() -> {
-                        log.error("존재하지 않는 게시글 : postId={}", postId);
-                        return new PostNotFoundException("존재하지 않는 게시글입니다.");
-                    });
-            Member member = memberRepository.findById(memberId.longValue())
-                    .orElseThrow(() -> {
-                        log.error("존재하지 않는 회원 : memberId={}", memberId);
-                        return new MemberNotFoundException("존재하지 않는 회원입니다.");
-                    });
-            PostLike newPostLike = PostLike.builder()
-                    .member(member)
-                    .post(post)
-                    .build();
-            postLikeRepository.save(newPostLike);
+            // 존재하지 않는 회원은 외래 키 위반으로 예외가 되므로, 추가되지 않은 경우 게시글만 확인
+            validatePost(postId);
+            log.debug("이미 '좋아요'한 게시글 : postId={}, member={}", postId, memberId);
+            return false;
         } else if (LikeLogType.CANCEL.equals(type)) {
-            PostLike deletePostLike = postLikeOpt.orElseThrow(() -> {
-                log.error("취소할 좋아요 없음 : postId={}, memberId={}", postId, memberId);
-                return new PostLikeNotFoundException("취소할 좋아요가 없습니다.");
-            });
-            postLikeRepository.delete(deletePostLike);
+            if (postLikeRepository.deleteIfPresent(postId, memberId) == 1) {
+                return true;
+            }
+            // 취소할 좋아요가 없는 경우에만 게시글이나 회원이 존재하지 않아서인지 확인
+            validatePost(postId);
+            if (!memberRepository.existsById(memberId.longValue())) {
+                log.error("존재하지 않는 회원 : memberId={}", memberId);
+                throw new MemberNotFoundException("존재하지 않는 회원입니다.");
+            }
+            log.debug("취소할 좋아요 없음 : postId={}, memberId={}", postId, memberId);
+            return false;
         } else {
             log.error("유효하지 않은 좋아요 로그 타입 : {}", type);
             throw new InvalidLikeLogTypeException("유효하지 않은 좋아요 로그 타입입니다.");
         }
     }
 
+    // 페이지에 포함된 게시글 중 회원이 좋아요한 게시글 ID
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedPostIds(Integer memberId, Collection<Long> postIds) {
+        if (memberId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(postLikeRepository.findLikedPostIds(memberId, postIds));
+    }
+
+    // 삭제된 게시글도 존재하지 않는 게시글로 취급
+    private void validatePost(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            log.error("존재하지 않는 게시글 : postId={}", postId);
+            throw new PostNotFoundException("존재하지 않는 게시글입니다.");
+        }
+    }
+
 }
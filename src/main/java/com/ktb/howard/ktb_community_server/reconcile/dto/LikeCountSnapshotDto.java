@@ -0,0 +1,9 @@
+package com.ktb.howard.ktb_community_server.reconcile.dto;
+
+// post.like_count에 저장된 값과 post_like에서 센 실제 좋아요 수
+public record LikeCountSnapshotDto(
+        Long postId,
+        Integer storedLikeCount,
+        Long actualLikeCount
+) {
+}
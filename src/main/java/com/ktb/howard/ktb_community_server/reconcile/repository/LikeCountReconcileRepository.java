@@ -0,0 +1,46 @@
+package com.ktb.howard.ktb_community_server.reconcile.repository;
+
+import com.ktb.howard.ktb_community_server.reconcile.dto.LikeCountSnapshotDto;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Repository
+public class LikeCountReconcileRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // afterPostId 이후의 게시글을 post_id 순으로 size개 읽고, 게시글마다 post_like의 행 수를 셈
+    // 좋아요가 없는 게시글도 like_count가 0인지 확인해야 하므로 post를 기준으로 LEFT JOIN 한다.
+    public List<LikeCountSnapshotDto> findLikeCounts(long afterPostId, int size) {
+        return jdbcTemplate.query(
+                "SELECT p.post_id, p.like_count, COUNT(pl.post_like_id) AS actual_like_count " +
+                        "FROM post p LEFT JOIN post_like pl ON pl.post_id = p.post_id " +
+                        "WHERE p.post_id > ? AND p.deleted_at IS NULL " +
+                        "GROUP BY p.post_id, p.like_count " +
+                        "ORDER BY p.post_id " +
+                        "LIMIT ?",
+                (rs, rowNum) -> new LikeCountSnapshotDto(
+                        rs.getLong("post_id"),
+                        rs.getInt("like_count"),
+                        rs.getLong("actual_like_count")
+                ),
+                afterPostId,
+                size
+        );
+    }
+
+    // 읽은 이후 동기화로 like_count가 바뀌었다면 덮어쓰지 않음
+    public boolean updateLikeCount(Long postId, int expectedLikeCount, long likeCount) {
+        return jdbcTemplate.update(
+                "UPDATE post SET like_count = ? WHERE post_id = ? AND like_count = ?",
+                likeCount,
+                postId,
+                expectedLikeCount
+        ) == 1;
+    }
+
+}
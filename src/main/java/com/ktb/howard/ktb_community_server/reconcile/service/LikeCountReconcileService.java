@@ -0,0 +1,93 @@
+package com.ktb.howard.ktb_community_server.reconcile.service;
+
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
+import com.ktb.howard.ktb_community_server.reconcile.dto.LikeCountSnapshotDto;
+import com.ktb.howard.ktb_community_server.reconcile.repository.LikeCountReconcileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// post_like의 실제 좋아요 수를 기준으로 좋아요 수 캐시와 post.like_count의 오차를 바로잡음
+// - 한 번 호출될 때마다 post_id 순으로 chunk 하나만 확인하고, 끝까지 확인하면 처음부터 다시 확인한다.
+//   호출 간격과 chunk 크기로 DB 부하를 제한하므로, 운영 중에도 계속 실행할 수 있다.
+// - 아직 DB에 반영되지 않은 변화량이 있는 게시글은 실제 값과 비교할 수 없으므로 건너뛴다.
+// - 캐시는 chunk를 읽기 시작한 이후 DB 반영이 커밋되지 않은 경우에만 바로잡으며, 그 사이 반영된 변화량을 덮어쓰지 않는다.
+@Slf4j
+@Service
+public class LikeCountReconcileService {
+
+    private final LikeCountReconcileRepository likeCountReconcileRepository;
+    private final CountCache likeCountCache;
+    private final int chunkSize;
+    private final Counter checkedCounter;
+    private final Counter skippedCounter;
+    private final Counter cacheDriftCounter;
+    private final Counter columnDriftCounter;
+    private final DistributionSummary driftAmount;
+    private final Counter passCounter;
+    // 다음 chunk를 시작할 post_id. 스케줄러 스레드에서만 접근한다.
+    private long cursor;
+
+    public LikeCountReconcileService(
+            LikeCountReconcileRepository likeCountReconcileRepository,
+            CountCache likeCountCache,
+            MeterRegistry meterRegistry,
+            @Value("${app.reconcile.like.chunk-size:500}") int chunkSize
+    ) {
+        this.likeCountReconcileRepository = likeCountReconcileRepository;
+        this.likeCountCache = likeCountCache;
+        this.chunkSize = chunkSize;
+        this.checkedCounter = meterRegistry.counter("like.reconcile.checked");
+        this.skippedCounter = meterRegistry.counter("like.reconcile.skipped");
+        this.cacheDriftCounter = meterRegistry.counter("like.reconcile.drift", "target", "cache");
+        this.columnDriftCounter = meterRegistry.counter("like.reconcile.drift", "target", "column");
+        this.driftAmount = DistributionSummary.builder("like.reconcile.drift.amount")
+                .description("바로잡은 좋아요 수 오차의 절댓값")
+                .register(meterRegistry);
+        this.passCounter = meterRegistry.counter("like.reconcile.passes");
+    }
+
+    public void reconcileNextChunk() {
+        long readStartedNanos = System.nanoTime();
+        List<LikeCountSnapshotDto> chunk = likeCountReconcileRepository.findLikeCounts(cursor, chunkSize);
+        chunk.forEach(snapshot -> reconcile(snapshot, readStartedNanos));
+        checkedCounter.increment(chunk.size());
+        if (chunk.size() < chunkSize) {
+            // 마지막 게시글까지 확인했으므로 처음부터 다시 확인
+            log.debug("[좋아요 수 검증] 한 바퀴 완료 : lastPostId={}", cursor);
+            cursor = 0;
+            passCounter.increment();
+        } else {
+            cursor = chunk.getLast().postId();
+        }
+    }
+
+    private void reconcile(LikeCountSnapshotDto snapshot, long readStartedNanos) {
+        Long postId = snapshot.postId();
+        long actual = snapshot.actualLikeCount();
+        // 조회 직후 들어온 좋아요는 변화량으로 남으므로, 보정 직전에 한 번 더 확인
+        if (likeCountCache.hasPendingDelta(postId)) {
+            skippedCounter.increment();
+            return;
+        }
+        if (snapshot.storedLikeCount() != actual
+                && likeCountReconcileRepository.updateLikeCount(postId, snapshot.storedLikeCount(), actual)) {
+            log.warn("[좋아요 수 검증] post.like_count 보정 : postId={}, stored={}, actual={}",
+                    postId, snapshot.storedLikeCount(), actual);
+            columnDriftCounter.increment();
+            driftAmount.record(Math.abs(actual - snapshot.storedLikeCount()));
+        }
+        // 캐시에 없는 게시글은 적재 시 DB 값을 읽으므로 캐시에 새로 넣지 않음
+        Long cached = likeCountCache.correct(postId, actual, readStartedNanos);
+        if (cached != null) {
+            cacheDriftCounter.increment();
+            driftAmount.record(Math.abs(actual - cached));
+        }
+    }
+
+}
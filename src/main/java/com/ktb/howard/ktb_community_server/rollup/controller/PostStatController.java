@@ -0,0 +1,32 @@
+package com.ktb.howard.ktb_community_server.rollup.controller;
+
+import com.ktb.howard.ktb_community_server.rollup.dto.PostHourlyStatDto;
+import com.ktb.howard.ktb_community_server.rollup.service.LogRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/posts")
+public class PostStatController {
+
+    private final LogRollupService logRollupService;
+
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/{postId}/stats/hourly")
+    public ResponseEntity<List<PostHourlyStatDto>> getHourlyStats(
+            @PathVariable Long postId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        List<PostHourlyStatDto> response = logRollupService.getHourlyStats(postId, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+}
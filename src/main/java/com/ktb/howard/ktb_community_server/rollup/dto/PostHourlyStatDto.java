@@ -0,0 +1,11 @@
+package com.ktb.howard.ktb_community_server.rollup.dto;
+
+import java.time.LocalDateTime;
+
+public record PostHourlyStatDto(
+        LocalDateTime hour,
+        Long viewCount,
+        Long likeCount,
+        Long cancelCount
+) {
+}
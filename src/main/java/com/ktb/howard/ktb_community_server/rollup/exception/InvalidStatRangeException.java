@@ -0,0 +1,9 @@
+package com.ktb.howard.ktb_community_server.rollup.exception;
+
+public class InvalidStatRangeException extends RuntimeException {
+
+    public InvalidStatRangeException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.ktb.howard.ktb_community_server.rollup.repository;
+
+import com.ktb.howard.ktb_community_server.rollup.dto.PostHourlyStatDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@AllArgsConstructor
+@Repository
+public class LogRollupRepository {
+
+    // SQL에 직접 들어가는 테이블명이므로 허용된 로그 테이블만 사용하도록 제한
+    @Getter
+    @AllArgsConstructor
+    public enum RollupLog {
+        VIEW_LOG(
+                "view_log",
+                "view_log_id",
+                "INSERT INTO post_view_hourly (post_id, bucket_hour, view_count) " +
+                        "SELECT * FROM (" +
+                        "SELECT post_id, DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00') AS bucket_hour, COUNT(*) AS cnt " +
+                        "FROM view_log WHERE view_log_id > ? AND view_log_id <= ? " +
+                        "GROUP BY post_id, bucket_hour" +
+                        ") AS agg " +
+                        "ON DUPLICATE KEY UPDATE view_count = view_count + agg.cnt"
+        ),
+        LIKE_LOG(
+                "like_log",
+                "like_log_id",
+                "INSERT INTO post_like_hourly (post_id, bucket_hour, like_count, cancel_count) " +
+                        "SELECT * FROM (" +
+                        "SELECT post_id, DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00') AS bucket_hour, " +
+                        "SUM(type = 'LIKE') AS likes, SUM(type = 'CANCEL') AS cancels " +
+                        "FROM like_log WHERE like_log_id > ? AND like_log_id <= ? " +
+                        "GROUP BY post_id, bucket_hour" +
+                        ") AS agg " +
+                        "ON DUPLICATE KEY UPDATE like_count = like_count + agg.likes, cancel_count = cancel_count + agg.cancels"
+        );
+
+        private final String tableName;
+        private final String idColumnName;
+        private final String rollupSql;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 집계 위치를 조회하며 행 잠금을 획득하여, 여러 서버가 같은 구간을 동시에 집계하지 않도록 함
+    // 트랜잭션 안에서 호출해야 한다.
+    public long lockWatermark(RollupLog rollupLog) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO log_rollup_watermark (log_name, last_log_id) VALUES (?, 0)",
+                rollupLog.getTableName()
+        );
+        Long lastLogId = jdbcTemplate.queryForObject(
+                "SELECT last_log_id FROM log_rollup_watermark WHERE log_name = ? FOR UPDATE",
+                Long.class,
+                rollupLog.getTableName()
+        );
+        return lastLogId == null ? 0 : lastLogId;
+    }
+
+    // 잠금 없이 현재 집계 위치를 조회. 집계가 한 번도 실행되지 않았다면 0
+    public long findWatermark(RollupLog rollupLog) {
+        List<Long> lastLogIds = jdbcTemplate.queryForList(
+                "SELECT last_log_id FROM log_rollup_watermark WHERE log_name = ?",
+                Long.class,
+                rollupLog.getTableName()
+        );
+        return lastLogIds.isEmpty() ? 0 : lastLogIds.getFirst();
+    }
+
+    public void updateWatermark(RollupLog rollupLog, long lastLogId) {
+        jdbcTemplate.update(
+                "UPDATE log_rollup_watermark SET last_log_id = ? WHERE log_name = ?",
+                lastLogId,
+                rollupLog.getTableName()
+        );
+    }
+
+    // PK의 최댓값만 읽으므로 테이블 크기와 무관하게 인덱스 끝에서 바로 조회됨
+    public long findMaxLogId(RollupLog rollupLog) {
+        Long maxLogId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + rollupLog.getIdColumnName() + "), 0) FROM " + rollupLog.getTableName(),
+                Long.class
+        );
+        return maxLogId == null ? 0 : maxLogId;
+    }
+
+    // (fromLogId, toLogId] 구간의 로그를 게시글, 시간 단위로 묶어 집계 테이블에 더함
+    public int rollup(RollupLog rollupLog, long fromLogId, long toLogId) {
+        return jdbcTemplate.update(rollupLog.getRollupSql(), fromLogId, toLogId);
+    }
+
+    // [from, to) 구간의 시간별 조회 수, 좋아요 수를 시간 순으로 조회
+    public List<PostHourlyStatDto> findHourlyStats(Long postId, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT bucket_hour, SUM(view_count) AS view_count, SUM(like_count) AS like_count, SUM(cancel_count) AS cancel_count " +
+                "FROM (" +
+                "SELECT bucket_hour, view_count, 0 AS like_count, 0 AS cancel_count FROM post_view_hourly " +
+                "WHERE post_id = ? AND bucket_hour >= ? AND bucket_hour < ? " +
+                "UNION ALL " +
+                "SELECT bucket_hour, 0, like_count, cancel_count FROM post_like_hourly " +
+                "WHERE post_id = ? AND bucket_hour >= ? AND bucket_hour < ?" +
+                ") AS hourly " +
+                "GROUP BY bucket_hour ORDER BY bucket_hour";
+        Timestamp fromTs = Timestamp.valueOf(from);
+        Timestamp toTs = Timestamp.valueOf(to);
+        return jdbcTemplate.query(
+                sql,
+                (rs, rowNum) -> new PostHourlyStatDto(
+                        rs.getTimestamp("bucket_hour").toLocalDateTime(),
+                        rs.getLong("view_count"),
+                        rs.getLong("like_count"),
+                        rs.getLong("cancel_count")
+                ),
+                postId, fromTs, toTs, postId, fromTs, toTs
+        );
+    }
+
+}
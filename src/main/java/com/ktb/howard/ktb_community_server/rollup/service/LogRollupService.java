@@ -0,0 +1,104 @@
+package com.ktb.howard.ktb_community_server.rollup.service;
+
+import com.ktb.howard.ktb_community_server.rollup.dto.PostHourlyStatDto;
+import com.ktb.howard.ktb_community_server.rollup.exception.InvalidStatRangeException;
+import com.ktb.howard.ktb_community_server.rollup.repository.LogRollupRepository;
+import com.ktb.howard.ktb_community_server.rollup.repository.LogRollupRepository.RollupLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// view_log, like_log를 게시글별 시간 단위 집계 테이블로 점진적으로 집계
+// - 로그 ID 기준으로 마지막으로 집계한 위치(watermark)를 두고, 그 이후의 로그만 chunk 단위로 집계한다.
+// - chunk의 집계와 watermark 갱신은 하나의 트랜잭션으로 커밋되므로, 중간에 실패하여 다시 실행해도 같은 로그가 두 번 더해지지 않는다.
+// - AUTO_INCREMENT ID는 커밋 순서와 다를 수 있으므로, 직전 실행에서 관찰한 최대 ID까지만 집계하여
+//   실행 간격보다 오래 커밋되지 않은 로그가 아니라면 건너뛰지 않도록 한다.
+@Slf4j
+@Service
+public class LogRollupService {
+
+    private final LogRollupRepository logRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long maxRangeHours;
+    private final Map<RollupLog, Long> observedMaxLogIds = new ConcurrentHashMap<>();
+
+    public LogRollupService(
+            LogRollupRepository logRollupRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.rollup.chunk-size:10000}") int chunkSize,
+            @Value("${app.rollup.max-chunks-per-run:100}") int maxChunksPerRun,
+            @Value("${app.rollup.max-range-hours:744}") long maxRangeHours
+    ) {
+        this.logRollupRepository = logRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.maxRangeHours = maxRangeHours;
+    }
+
+    public void rollupAll() {
+        for (RollupLog rollupLog : RollupLog.values()) {
+            try {
+                rollup(rollupLog);
+            } catch (RuntimeException e) {
+                log.error("[로그 집계] {} 집계 실패, 다음 주기에 재시도", rollupLog.getTableName(), e);
+            }
+        }
+    }
+
+    // 반환값은 이번 실행에서 집계한 로그 ID 구간의 크기
+    public long rollup(RollupLog rollupLog) {
+        long observedMaxLogId = logRollupRepository.findMaxLogId(rollupLog);
+        Long targetLogId = observedMaxLogIds.put(rollupLog, observedMaxLogId);
+        if (targetLogId == null) {
+            // 서버 시작 후 첫 실행에서는 집계할 상한만 기록하고 다음 실행부터 집계
+            return 0;
+        }
+        long rolledUp = 0;
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            Long range = transactionTemplate.execute(status -> {
+                long lastLogId = logRollupRepository.lockWatermark(rollupLog);
+                if (lastLogId >= targetLogId) {
+                    return 0L;
+                }
+                long toLogId = Math.min(lastLogId + chunkSize, targetLogId);
+                int rows = logRollupRepository.rollup(rollupLog, lastLogId, toLogId);
+                logRollupRepository.updateWatermark(rollupLog, toLogId);
+                log.debug("[로그 집계] {} ({}, {}] 집계 : affectedRows={}", rollupLog.getTableName(), lastLogId, toLogId, rows);
+                return toLogId - lastLogId;
+            });
+            if (range == null || range == 0) {
+                break;
+            }
+            rolledUp += range;
+        }
+        if (rolledUp > 0) {
+            log.info("[로그 집계] {} 집계 완료 : logIdRange={}, targetLogId={}", rollupLog.getTableName(), rolledUp, targetLogId);
+        }
+        return rolledUp;
+    }
+
+    // [from, to) 구간의 게시글 시간별 조회 수, 좋아요 수. 시간 단위로 내림하여 조회한다.
+    public List<PostHourlyStatDto> getHourlyStats(Long postId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime fromHour = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime toHour = to.truncatedTo(ChronoUnit.HOURS);
+        if (!fromHour.isBefore(toHour)) {
+            throw new InvalidStatRangeException("조회 시작 시각은 종료 시각보다 1시간 이상 이전이어야 합니다.");
+        }
+        if (Duration.between(fromHour, toHour).toHours() > maxRangeHours) {
+            throw new InvalidStatRangeException(String.format("최대 %d시간까지 조회할 수 있습니다.", maxRangeHours));
+        }
+        return logRollupRepository.findHourlyStats(postId, fromHour, toHour);
+    }
+
+}
@@ -1,40 +1,71 @@
 package com.ktb.howard.ktb_community_server.scheduler;
 
-import com.ktb.howard.ktb_community_server.cache.repository.LikeCountCacheRepository;
-import com.ktb.howard.ktb_community_server.cache.repository.ViewCountCacheRepository;
-import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
+import com.google.common.collect.Iterables;
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
+import com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository;
+import com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class CountCacheScheduler {
 
-    private final ViewCountCacheRepository viewCountCacheRepository;
-    private final LikeCountCacheRepository likeCountCacheRepository;
-    private final PostRepository postRepository;
+    private final List<CountCache> countCaches;
+    private final PostCountBulkRepository postCountBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.cache.count.flush-chunk-size:500}")
+    private int chunkSize;
 
     @Scheduled(cron = "0 */1 * * * *")
-    @Transactional
     public void syncCountsToDatabase() {
-        log.info("[스케줄러 시작] Cache에 저장된 조회수 및 좋아요 수 DB 동기화 시작");
-        Map<Long, Long> viewCounts = viewCountCacheRepository.getAllCacheDataAsMap();
-        Map<Long, Long> likeCounts = likeCountCacheRepository.getAllCacheDataAsMap();
-        if (!viewCounts.isEmpty()) {
-            postRepository.bulkUpdateViewCounts(viewCounts);
-            log.info("[스케줄러] {}개의 게시글 조회수를 DB에 반영완료", viewCounts.size());
+        log.info("[스케줄러 시작] Cache에 쌓인 조회수, 좋아요 수, 댓글 수 변화량 DB 동기화 시작");
+        // 마지막 동기화 이후 변경된 게시글의 변화량만 가져옴
+        // 변화량을 가져올 때 저널 구간도 함께 봉인되며, 모두 반영된 구간은 캐시가 직접 삭제한다.
+        countCaches.forEach(this::flush);
+        // 실패한 변화량의 저널 구간은 다음 동기화에서 모두 반영될 때까지 유지됨
+        if (countCaches.stream().anyMatch(CountCache::hasUnflushedDeltas)) {
+            log.warn("[스케줄러] DB에 반영되지 못한 변화량이 있어 저널을 유지");
+        }
+        log.info("[스케줄러 종료] 변경된 카운트 정보 DB 동기화 완료.");
+    }
+
+    // 변화량을 chunk 단위로 나누어 chunk마다 하나의 UPDATE 문을 실행하고 커밋
+    // 커밋이 성공한 chunk만 차감하므로, 실패한 chunk 이후의 변화량은 다음 주기에 다시 반영된다.
+    private void flush(CountCache countCache) {
+        CountColumn column = countCache.getColumn();
+        Map<Long, Long> deltas = countCache.getPendingDeltas();
+        if (deltas.isEmpty()) {
+            return;
         }
-        if (!likeCounts.isEmpty()) {
-            postRepository.bulkUpdateLikeCounts(likeCounts);
-            log.info("[스케줄러] {}개의 게시글 좋아요 수를 DB에 반영완료", likeCounts.size());
+        long startedAt = System.nanoTime();
+        AtomicInteger updatedRows = new AtomicInteger();
+        for (List<Map.Entry<Long, Long>> entries : Iterables.partition(deltas.entrySet(), chunkSize)) {
+            Map<Long, Long> chunk = new HashMap<>();
+            entries.forEach(e -> chunk.put(e.getKey(), e.getValue()));
+            try {
+                countCache.flush(chunk, () -> transactionTemplate.executeWithoutResult(
+                        status -> updatedRows.addAndGet(postCountBulkRepository.addCounts(column, chunk))
+                ));
+            } catch (RuntimeException e) {
+                log.error("[스케줄러] {} 변화량 반영 실패, 다음 주기에 재시도 : chunkSize={}", column, chunk.size(), e);
+                return;
+            }
         }
-        log.info("[스케줄러 종료] Cache에 저장된 모든 카운트 정보 DB 동기화 완료.");
+        double elapsedSec = Math.max(System.nanoTime() - startedAt, 1) / 1_000_000_000.0;
+        log.info("[스케줄러] {} 변화량 DB 반영 : posts={}, updatedRows={}, elapsed={}ms, rows/sec={}",
+                column, deltas.size(), updatedRows.get(), Math.round(elapsedSec * 1000), Math.round(updatedRows.get() / elapsedSec));
     }
 
 }
@@ -0,0 +1,26 @@
+package com.ktb.howard.ktb_community_server.scheduler;
+
+import com.ktb.howard.ktb_community_server.reconcile.service.LikeCountReconcileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountReconcileScheduler {
+
+    private final LikeCountReconcileService likeCountReconcileService;
+
+    // 이전 chunk가 끝난 뒤 interval-ms만큼 쉬고 다음 chunk를 확인하므로, DB가 느려지면 검증도 함께 느려짐
+    @Scheduled(fixedDelayString = "${app.reconcile.like.interval-ms:1000}", initialDelayString = "${app.reconcile.like.initial-delay-ms:60000}")
+    public void reconcileLikeCounts() {
+        try {
+            likeCountReconcileService.reconcileNextChunk();
+        } catch (RuntimeException e) {
+            log.error("[스케줄러] 좋아요 수 검증 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+}
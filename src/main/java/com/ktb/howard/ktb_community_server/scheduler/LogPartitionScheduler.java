@@ -0,0 +1,27 @@
+package com.ktb.howard.ktb_community_server.scheduler;
+
+import com.ktb.howard.ktb_community_server.partition.service.LogPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LogPartitionScheduler {
+
+    private final LogPartitionService logPartitionService;
+
+    // 서버 시작 시와 매일 새벽에 다음 달 파티션 생성 및 보관 기간이 지난 파티션 삭제
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.log-partition.cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        log.info("[스케줄러 시작] 로그 테이블 파티션 관리 시작");
+        logPartitionService.maintainAll();
+        log.info("[스케줄러 종료] 로그 테이블 파티션 관리 완료");
+    }
+
+}
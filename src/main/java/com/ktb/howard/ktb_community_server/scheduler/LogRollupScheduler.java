@@ -0,0 +1,24 @@
+package com.ktb.howard.ktb_community_server.scheduler;
+
+import com.ktb.howard.ktb_community_server.rollup.service.LogRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LogRollupScheduler {
+
+    private final LogRollupService logRollupService;
+
+    // 실행 간격은 커밋이 늦어진 로그를 기다리는 시간이기도 하므로, 트랜잭션이 열려 있는 최대 시간보다 길게 설정
+    @Scheduled(fixedDelayString = "${app.rollup.interval-ms:300000}", initialDelayString = "${app.rollup.initial-delay-ms:60000}")
+    public void rollupLogs() {
+        log.info("[스케줄러 시작] 조회, 좋아요 로그 시간별 집계 시작");
+        logRollupService.rollupAll();
+        log.info("[스케줄러 종료] 조회, 좋아요 로그 시간별 집계 완료");
+    }
+
+}
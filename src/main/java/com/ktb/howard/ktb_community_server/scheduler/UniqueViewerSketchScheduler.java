@@ -0,0 +1,66 @@
+package com.ktb.howard.ktb_community_server.scheduler;
+
+import com.google.common.collect.Iterables;
+import com.ktb.howard.ktb_community_server.cache.repository.UniqueViewerSketchRepository;
+import com.ktb.howard.ktb_community_server.cache.repository.UniqueViewerSketchRepository.Sketch;
+import com.ktb.howard.ktb_community_server.post.repository.PostViewerSketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UniqueViewerSketchScheduler {
+
+    private final UniqueViewerSketchRepository uniqueViewerSketchRepository;
+    private final PostViewerSketchRepository postViewerSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.cache.unique-viewer.persist-chunk-size:200}")
+    private int chunkSize;
+
+    // 메모리의 스케치를 DB에 저장된 스케치와 레지스터별 최댓값으로 병합한 뒤 저장
+    // 병합은 멱등이므로 같은 스케치를 여러 번 저장해도 추정값이 부풀지 않는다.
+    @Scheduled(fixedDelayString = "${app.cache.unique-viewer.persist-interval-ms:30000}")
+    public void persistSketches() {
+        Map<Long, Sketch> targets = uniqueViewerSketchRepository.drainPersistTargets();
+        if (targets.isEmpty()) {
+            return;
+        }
+        int persisted = 0;
+        for (List<Map.Entry<Long, Sketch>> entries : Iterables.partition(targets.entrySet(), chunkSize)) {
+            Map<Long, Sketch> chunk = new HashMap<>();
+            entries.forEach(e -> chunk.put(e.getKey(), e.getValue()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Map<Long, byte[]> stored = postViewerSketchRepository.findRegistersForUpdate(chunk.keySet());
+                    Map<Long, byte[]> merged = new HashMap<>();
+                    chunk.forEach((postId, sketch) -> {
+                        byte[] registers = stored.get(postId);
+                        if (registers != null) {
+                            sketch.mergeStored(registers);
+                        } else {
+                            sketch.markMerged();
+                        }
+                        merged.put(postId, sketch.toByteArray());
+                    });
+                    postViewerSketchRepository.upsertAll(merged);
+                });
+                persisted += chunk.size();
+            } catch (RuntimeException e) {
+                log.error("[스케줄러] 순 조회자 스케치 저장 실패, 다음 주기에 재시도 : chunkSize={}", chunk.size(), e);
+                uniqueViewerSketchRepository.markUnpersisted(chunk);
+            }
+        }
+        log.info("[스케줄러] 순 조회자 스케치 저장 : posts={}", persisted);
+    }
+
+}
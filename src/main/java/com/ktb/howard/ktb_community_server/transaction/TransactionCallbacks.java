@@ -0,0 +1,25 @@
+package com.ktb.howard.ktb_community_server.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 결과에 맞춰 실행해야 하는 작업을 등록
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() { }
+
+    // 트랜잭션이 커밋된 이후에 실행. 트랜잭션 밖에서 호출하면 바로 실행한다.
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
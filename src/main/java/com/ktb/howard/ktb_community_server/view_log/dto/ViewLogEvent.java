@@ -0,0 +1,5 @@
+package com.ktb.howard.ktb_community_server.view_log.dto;
+
+import java.time.LocalDateTime;
+
+public record ViewLogEvent(Long postId, Integer memberId, LocalDateTime createdAt) { }
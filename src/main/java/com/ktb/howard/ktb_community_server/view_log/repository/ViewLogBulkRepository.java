@@ -0,0 +1,35 @@
+package com.ktb.howard.ktb_community_server.view_log.repository;
+
+import com.ktb.howard.ktb_community_server.view_log.dto.ViewLogEvent;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@AllArgsConstructor
+@Repository
+public class ViewLogBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // IDENTITY 전략의 엔티티는 JDBC 배치가 불가능하므로, 여러 행을 하나의 INSERT 문으로 기록
+    public int insertAll(List<ViewLogEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        String sql = "INSERT INTO view_log (post_id, member_id, created_at) VALUES "
+                + String.join(", ", Collections.nCopies(events.size(), "(?, ?, ?)"));
+        List<Object> params = new ArrayList<>(events.size() * 3);
+        for (ViewLogEvent event : events) {
+            params.add(event.postId());
+            params.add(event.memberId());
+            params.add(Timestamp.valueOf(event.createdAt()));
+        }
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.ktb.howard.ktb_community_server.view_log.writer;
+
+import com.ktb.howard.ktb_community_server.view_log.dto.ViewLogEvent;
+import com.ktb.howard.ktb_community_server.view_log.repository.ViewLogBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 게시글 조회 로그를 요청 스레드와 분리하여 기록하는 비동기 기록기
+// - 요청 스레드는 링 버퍼에 조회 이벤트를 넣기만 하고, 기록 스레드가 모아서 다중 행 INSERT로 기록한다.
+// - 버퍼가 가득 찬 경우의 동작은 app.view-log.overflow-policy로 설정한다.
+// - 애플리케이션 종료 시 버퍼에 남은 이벤트를 모두 기록한 뒤 종료한다.
+//   웹 서버의 graceful shutdown으로 처리 중인 요청이 모두 끝난 뒤에 종료되도록 웹 서버보다 낮은 phase에서 실행한다.
+// - 종료된 이후에 들어온 이벤트는 기록되지 않으므로 버퍼에 넣지 않고 거부하며, 거부한 수를 따로 집계한다.
+//   실행 여부를 확인한 직후 종료되어 기록 스레드가 끝난 뒤에 버퍼에 들어간 이벤트는 넣은 스레드가 직접 기록한다.
+@Slf4j
+@Component
+public class AsyncViewLogWriter implements SmartLifecycle {
+
+    public enum OverflowPolicy {
+        DROP,        // 이벤트를 버리고 즉시 반환
+        BLOCK,       // 버퍼에 자리가 날 때까지 block-timeout-ms 동안 대기한 뒤, 그래도 가득 차 있으면 버림
+        CALLER_RUNS  // 요청 스레드에서 직접 기록
+    }
+
+    private final ViewLogBulkRepository viewLogBulkRepository;
+    private final MpscRingBuffer<ViewLogEvent> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long blockTimeoutNanos;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+    // 기록 스레드가 종료 요청 이후의 마지막 기록을 시작했는지 여부
+    private volatile boolean stopped;
+    private Thread writerThread;
+
+    public AsyncViewLogWriter(
+            ViewLogBulkRepository viewLogBulkRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.view-log.buffer-size:65536}") int bufferSize,
+            @Value("${app.view-log.batch-size:500}") int batchSize,
+            @Value("${app.view-log.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${app.view-log.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${app.view-log.block-timeout-ms:50}") long blockTimeoutMs
+    ) {
+        this.viewLogBulkRepository = viewLogBulkRepository;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.droppedCounter = meterRegistry.counter("view_log.writer.dropped");
+        this.writtenCounter = meterRegistry.counter("view_log.writer.written");
+        this.rejectedCounter = meterRegistry.counter("view_log.writer.rejected");
+        Gauge.builder("view_log.writer.pending", buffer, MpscRingBuffer::size).register(meterRegistry);
+    }
+
+    public void enqueue(ViewLogEvent event) {
+        if (!running) {
+            log.warn("조회 로그 기록기 종료 이후 이벤트 거부 : postId={}, memberId={}", event.postId(), event.memberId());
+            rejectedCounter.increment();
+            return;
+        }
+        if (offer(event) && !running) {
+            drainAfterStop();
+        }
+    }
+
+    @Override
+    public void start() {
+        stopped = false;
+        running = true;
+        writerThread = new Thread(this::runWriter, "view-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("AsyncViewLogWriter 시작 : capacity={}, batchSize={}, overflowPolicy={}",
+                buffer.capacity(), batchSize, overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("AsyncViewLogWriter 종료 : 남은 이벤트={}", buffer.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 시작은 웹 서버보다 먼저, 종료는 웹 서버의 graceful shutdown과 웹 서버 종료 이후에 실행
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    private void runWriter() {
+        List<ViewLogEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            buffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+        // 종료 요청 이후 버퍼에 남은 이벤트를 모두 기록
+        stopped = true;
+        drainAfterStop();
+    }
+
+    // 버퍼에 넣었으면 true, 버리거나 요청 스레드에서 직접 기록했으면 false
+    private boolean offer(ViewLogEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        switch (overflowPolicy) {
+            case DROP -> drop(event);
+            case BLOCK -> {
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                while (!buffer.offer(event)) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        drop(event);
+                        return false;
+                    }
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                }
+                return true;
+            }
+            case CALLER_RUNS -> write(List.of(event));
+        }
+        return false;
+    }
+
+    // 기록 스레드의 마지막 기록이 시작된 이후에만 꺼내며, 꺼내는 스레드가 하나가 되도록 동기화
+    // stopped를 기록한 뒤 버퍼를 확인하고, 이벤트를 넣은 뒤 stopped를 확인하므로 늦게 들어온 이벤트는 둘 중 한쪽이 기록한다.
+    private synchronized void drainAfterStop() {
+        if (!stopped) {
+            return;
+        }
+        List<ViewLogEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drain(batch::add, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<ViewLogEvent> events) {
+        try {
+            viewLogBulkRepository.insertAll(events);
+            writtenCounter.increment(events.size());
+        } catch (RuntimeException e) {
+            log.error("조회 로그 기록 실패 : count={}", events.size(), e);
+            droppedCounter.increment(events.size());
+        }
+    }
+
+    private void drop(ViewLogEvent event) {
+        log.warn("조회 로그 버퍼 초과로 이벤트 유실 : postId={}, memberId={}", event.postId(), event.memberId());
+        droppedCounter.increment();
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.ktb.howard.ktb_community_server.view_log.writer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+// 여러 요청 스레드가 넣고(multi-producer) 하나의 기록 스레드가 꺼내는(single-consumer) 고정 크기 링 버퍼
+// - 생산자는 CAS로 슬롯을 예약한 뒤 값을 기록하며, 가득 찬 경우 offer가 false를 반환한다.
+// - 소비자는 슬롯을 비운 뒤 소비 위치를 옮기므로, 생산자는 항상 비어 있는 슬롯에만 기록한다.
+class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    MpscRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(requestedCapacity, 2) * 2 - 1);
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    boolean offer(E element) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        buffer.set((int) (index & mask), element);
+        return true;
+    }
+
+    // 소비자 스레드에서만 호출. 최대 limit개를 꺼내 consumer로 전달하고 꺼낸 개수를 반환
+    int drain(Consumer<E> consumer, int limit) {
+        long index = consumerIndex.get();
+        int drained = 0;
+        while (drained < limit) {
+            int offset = (int) (index & mask);
+            E element = buffer.get(offset);
+            if (element == null) {
+                // 비어 있거나, 예약한 생산자가 아직 기록하지 않은 슬롯
+                break;
+            }
+            buffer.lazySet(offset, null);
+            consumerIndex.lazySet(++index);
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, producerIndex.get() - consumerIndex.get());
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+}
@@ -52,10 +52,13 @@ CREATE TABLE IF NOT EXISTS like_log (
     type         VARCHAR(6) NOT NULL DEFAULT 'LIKE'            COMMENT 'LIKE - 좋아요 클릭, CANCEL - 좋아요 해제',
     created_at	 TIMESTAMP  NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '좋아요 기록을 생성한 일자, 시각',
 
-    PRIMARY KEY (like_log_id),
-    FOREIGN KEY (member_id) REFERENCES member (member_id),
-    FOREIGN KEY (post_id) REFERENCES post (post_id)
-) COMMENT = '게시글에 대한 좋아요 클릭 로그';
+    PRIMARY KEY (like_log_id, created_at)
+) COMMENT = '게시글에 대한 좋아요 클릭 로그'
+## 월 단위 파티션. 파티션 테이블은 외래 키를 사용할 수 없고, 파티션 키가 PK에 포함되어야 한다.
+## 월별 파티션은 LogPartitionService가 미리 생성하고, 보관 기간이 지난 파티션을 통째로 삭제한다.
+PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
 ## Index 설정
 CREATE INDEX idx_like_log_post_member_type_created ON like_log (post_id, member_id, type, created_at);
 
@@ -77,10 +80,12 @@ CREATE TABLE IF NOT EXISTS view_log (
     post_id	    BIGINT	  NOT NULL	                         COMMENT '조회된 게시글의 ID',
     created_at	TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '조회 기록을 생성한 일자, 시각',
 
-    PRIMARY KEY (view_log_id),
-    FOREIGN KEY (member_id) REFERENCES member (member_id),
-    FOREIGN KEY (post_id) REFERENCES post (post_id)
-) COMMENT = '게시글 조회 로그';
+    PRIMARY KEY (view_log_id, created_at)
+) COMMENT = '게시글 조회 로그'
+## 월 단위 파티션. like_log와 같은 방식으로 관리한다.
+PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
 ## Index 설정
 CREATE INDEX idx_view_log_post_member_created ON view_log (post_id, member_id, created_at);
 
@@ -102,6 +107,9 @@ CREATE TABLE IF NOT EXISTS post (
 ) COMMENT = '게시글';
 ## Index 설정
 CREATE INDEX idx_post_deleted_at_created_at ON post (deleted_at, created_at);
+## 캐시 워밍업의 좋아요 수, 조회수 상위 게시글 조회가 정렬 없이 인덱스 역순으로 상위 N건만 읽도록 함
+CREATE INDEX idx_post_like_count_post_id ON post (like_count, post_id);
+CREATE INDEX idx_post_view_count_post_id ON post (view_count, post_id);
 
 CREATE TABLE IF NOT EXISTS comment (
     comment_id	        BIGINT	  NOT NULL AUTO_INCREMENT              COMMENT '댓글에 부여되는 ID',
@@ -120,6 +128,7 @@ CREATE TABLE IF NOT EXISTS comment (
 ) COMMENT = '댓글';
 ## Index 설정
 CREATE INDEX idx_comment_post_id_deleted_at_created_at ON comment (post_id, deleted_at, created_at);
+CREATE INDEX idx_comment_post_id_parent_comment_id_created_at ON comment (post_id, parent_comment_id, created_at);
 
 CREATE TABLE IF NOT EXISTS image (
     image_id	        BIGINT	      NOT NULL AUTO_INCREMENT              COMMENT '이미지에 부여되는 ID',
@@ -144,4 +153,37 @@ CREATE TABLE IF NOT EXISTS image (
 ) COMMENT = '시스템에서 관리하는 이미지 테이블';
 ## Index 설정
 CREATE INDEX idx_image_owner_id ON image (owner_id);
-CREATE INDEX idx_image_type_reference_id ON image (image_type, reference_id);
\ No newline at end of file
+CREATE INDEX idx_image_type_reference_id ON image (image_type, reference_id);
+
+CREATE TABLE IF NOT EXISTS post_view_hourly (
+    post_id	     BIGINT	   NOT NULL	          COMMENT '조회된 게시글의 ID',
+    bucket_hour	 DATETIME  NOT NULL	          COMMENT '집계 구간의 시작 시각 (정시)',
+    view_count	 BIGINT	   NOT NULL DEFAULT 0 COMMENT '해당 시간 동안의 조회 수',
+
+    PRIMARY KEY (post_id, bucket_hour)
+) COMMENT = '게시글 시간별 조회 집계';
+
+CREATE TABLE IF NOT EXISTS post_like_hourly (
+    post_id	     BIGINT	   NOT NULL	          COMMENT '좋아요를 받은 게시글의 ID',
+    bucket_hour	 DATETIME  NOT NULL	          COMMENT '집계 구간의 시작 시각 (정시)',
+    like_count	 BIGINT	   NOT NULL DEFAULT 0 COMMENT '해당 시간 동안의 좋아요 클릭 수',
+    cancel_count BIGINT	   NOT NULL DEFAULT 0 COMMENT '해당 시간 동안의 좋아요 해제 수',
+
+    PRIMARY KEY (post_id, bucket_hour)
+) COMMENT = '게시글 시간별 좋아요 집계';
+
+CREATE TABLE IF NOT EXISTS log_rollup_watermark (
+    log_name	 VARCHAR(20) NOT NULL	                            COMMENT '집계 대상 로그 테이블 이름',
+    last_log_id	 BIGINT	     NOT NULL DEFAULT 0	                    COMMENT '마지막으로 집계에 반영한 로그 ID',
+    modified_at	 TIMESTAMP	     NULL ON UPDATE CURRENT_TIMESTAMP   COMMENT '마지막으로 집계 위치를 갱신한 일자, 시각',
+
+    PRIMARY KEY (log_name)
+) COMMENT = '로그 집계 위치';
+
+CREATE TABLE IF NOT EXISTS post_viewer_sketch (
+    post_id	     BIGINT	        NOT NULL	                            COMMENT '게시글의 ID',
+    registers	 VARBINARY(4096) NOT NULL	                            COMMENT '순 조회자 수 추정용 HyperLogLog 레지스터 (p=12)',
+    modified_at	 TIMESTAMP	        NULL ON UPDATE CURRENT_TIMESTAMP    COMMENT '마지막으로 스케치를 저장한 일자, 시각',
+
+    PRIMARY KEY (post_id)
+) COMMENT = '게시글 순 조회자 수 스케치';
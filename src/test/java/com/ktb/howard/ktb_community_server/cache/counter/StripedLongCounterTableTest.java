@@ -0,0 +1,68 @@
+package com.ktb.howard.ktb_community_server.cache.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StripedLongCounterTableTest {
+
+    @Test
+    @DisplayName("카운터 증감 - 초기 크기를 넘겨 테이블이 확장되어도 모든 키의 값이 유지된다.")
+    void addWithResizeTest() {
+        // given
+        StripedLongCounterTable table = new StripedLongCounterTable(16);
+
+        // when
+        for (long key = 1; key <= 10_000; key++) {
+            table.add(key, key);
+        }
+        table.add(7L, -7L);
+
+        // then
+        assertThat(table.size()).isEqualTo(10_000);
+        assertThat(table.get(10_000L)).isEqualTo(10_000L);
+        assertThat(table.get(7L)).isZero();
+        assertThat(table.get(20_000L)).isZero();
+        Map<Long, Long> nonZero = new HashMap<>();
+        table.forEachNonZero(nonZero::put);
+        assertThat(nonZero).hasSize(9_999).doesNotContainKey(7L);
+    }
+
+    @Test
+    @DisplayName("카운터 증감 - 여러 스레드가 같은 키와 새로운 키를 동시에 증가시켜도 증가분이 유실되지 않는다.")
+    void concurrentAddTest() throws InterruptedException {
+        // given
+        StripedLongCounterTable table = new StripedLongCounterTable(16);
+        int threadCount = 8;
+        int repeat = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < repeat; i++) {
+                    table.add(0L, 1);     // 조회가 몰리는 게시글
+                    table.add(i + 1L, 1); // 테이블 확장을 유발하는 게시글
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(table.get(0L)).isEqualTo((long) threadCount * repeat);
+        assertThat(table.get(repeat)).isEqualTo(threadCount);
+        assertThat(table.size()).isEqualTo(repeat + 1);
+    }
+
+}
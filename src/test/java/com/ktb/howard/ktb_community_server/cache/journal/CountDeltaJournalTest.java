@@ -0,0 +1,114 @@
+package com.ktb.howard.ktb_community_server.cache.journal;
+
+import com.ktb.howard.ktb_community_server.cache.journal.CountDeltaJournal.Batch;
+import com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn.LIKE_COUNT;
+import static com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn.VIEW_COUNT;
+import static org.assertj.core.api.Assertions.*;
+
+class CountDeltaJournalTest {
+
+    private static final int RECORD_SIZE = 21;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저널 복원 - 삭제한 구간의 변화량은 복원되지 않고, 다른 컬럼의 구간은 그대로 복원된다.")
+    void releaseOnlyOwnBatchTest() throws Exception {
+        // given
+        CountDeltaJournal journal = new CountDeltaJournal(directory.toString(), RECORD_SIZE * 16, 100);
+        Batch likes = journal.newBatch(LIKE_COUNT);
+        likes.append(1L, 1);
+        likes.append(1L, 1);
+        Batch views = journal.newBatch(VIEW_COUNT);
+        views.append(2L, 5);
+
+        // when
+        likes.release();
+        journal.close();
+
+        // then
+        CountDeltaJournal restarted = new CountDeltaJournal(directory.toString(), RECORD_SIZE * 16, 100);
+        assertThat(replay(restarted, LIKE_COUNT)).isEmpty();
+        assertThat(replay(restarted, VIEW_COUNT)).containsExactly(entry(2L, 5L));
+    }
+
+    @Test
+    @DisplayName("저널 복원 - 세그먼트가 가득 차 새 세그먼트로 이어 기록한 변화량도 모두 복원된다.")
+    void replayAcrossSegmentsTest() throws Exception {
+        // given
+        CountDeltaJournal journal = new CountDeltaJournal(directory.toString(), RECORD_SIZE * 2, 100);
+        Batch likes = journal.newBatch(LIKE_COUNT);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            likes.append(1L, 1);
+        }
+        journal.close();
+
+        // then
+        CountDeltaJournal restarted = new CountDeltaJournal(directory.toString(), RECORD_SIZE * 2, 100);
+        assertThat(replay(restarted, LIKE_COUNT)).containsExactly(entry(1L, 5L));
+    }
+
+    @Test
+    @DisplayName("저널 기록 - 변화량이 없는 구간은 세그먼트 파일을 만들지 않는다.")
+    void idleBatchCreatesNoSegmentTest() throws Exception {
+        // given
+        CountDeltaJournal journal = new CountDeltaJournal(directory.toString(), RECORD_SIZE * 16, 100);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            journal.newBatch(LIKE_COUNT).release();
+        }
+        journal.close();
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("저널 복원 - 삭제한 구간의 세그먼트를 다시 사용해도 이전 변화량은 복원되지 않는다.")
+    void reuseReleasedSegmentTest() throws Exception {
+        // given
+        CountDeltaJournal journal = new CountDeltaJournal(directory.toString(), RECORD_SIZE * 4, 100);
+        for (int i = 0; i < 10; i++) {
+            Batch flushed = journal.newBatch(LIKE_COUNT);
+            flushed.append(1L, 1);
+            flushed.append(2L, 1);
+            flushed.release();
+        }
+
+        // when
+        Batch likes = journal.newBatch(LIKE_COUNT);
+        likes.append(3L, 1);
+        journal.close();
+
+        // then
+        CountDeltaJournal restarted = new CountDeltaJournal(directory.toString(), RECORD_SIZE * 4, 100);
+        assertThat(replay(restarted, LIKE_COUNT)).containsExactly(entry(3L, 1L));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    private Map<Long, Long> replay(CountDeltaJournal journal, CountColumn column) {
+        Map<Long, Long> restored = new HashMap<>();
+        journal.replay(column, (postId, delta) -> restored.merge(postId, delta, Long::sum));
+        return restored;
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import com.ktb.howard.ktb_community_server.cache.journal.CountDeltaJournal.Batch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PendingCountDeltasTest {
+
+    @Test
+    @DisplayName("변화량 반영 - 반영이 커밋된 변화량만 차감되고, 그 사이에 들어온 변화량은 남는다.")
+    void acknowledgeKeepsNewDeltasTest() {
+        // given
+        PendingCountDeltas deltas = new PendingCountDeltas();
+        deltas.add(1L, 1);
+        deltas.add(1L, 1);
+        deltas.add(2L, 1);
+        Map<Long, Long> flushed = deltas.snapshot();
+        deltas.add(1L, 1); // 동기화 도중 추가로 들어온 조회
+
+        // when
+        deltas.acknowledge(flushed);
+
+        // then
+        assertThat(deltas.snapshot()).containsExactly(entry(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("변화량 반영 - 반영이 실패하여 차감하지 않으면, 다음 스냅샷에 변화량이 그대로 남는다.")
+    void snapshotWithoutAcknowledgeTest() {
+        // given
+        PendingCountDeltas deltas = new PendingCountDeltas();
+        deltas.add(1L, 1);
+        deltas.snapshot();
+
+        // when
+        deltas.add(1L, 1);
+
+        // then
+        assertThat(deltas.snapshot()).containsExactly(entry(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("변화량 누적 - 증가와 감소가 상쇄되어 0이 되면 DB에 반영할 대상에서 제외된다.")
+    void cancelOutTest() {
+        // given
+        PendingCountDeltas deltas = new PendingCountDeltas();
+
+        // when
+        deltas.add(1L, 1);
+        deltas.add(1L, -1);
+
+        // then
+        assertThat(deltas.snapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저널 구간 - 봉인 이후의 증감은 새 구간에 기록되고, 반영이 커밋되면 봉인된 구간만 삭제된다.")
+    void releaseSealedBatchAfterFlushTest() {
+        // given
+        List<RecordingBatch> batches = new ArrayList<>();
+        PendingCountDeltas deltas = new PendingCountDeltas(() -> {
+            RecordingBatch batch = new RecordingBatch();
+            batches.add(batch);
+            return batch;
+        });
+        deltas.add(1L, 1);
+        Map<Long, Long> flushing = deltas.snapshot();
+        deltas.add(1L, 1); // 봉인 이후, 반영 커밋 이전에 들어온 조회
+
+        // when
+        deltas.flush(flushing, () -> {
+        });
+
+        // then
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0).deltas).containsExactly(1L);
+        assertThat(batches.get(0).released).isTrue();
+        assertThat(batches.get(1).deltas).containsExactly(1L);
+        assertThat(batches.get(1).released).isFalse();
+    }
+
+    @Test
+    @DisplayName("저널 구간 - 반영에 실패하면 봉인된 구간을 유지하고, 이후 모두 반영되면 함께 삭제된다.")
+    void keepSealedBatchUntilFlushedTest() {
+        // given
+        List<RecordingBatch> batches = new ArrayList<>();
+        PendingCountDeltas deltas = new PendingCountDeltas(() -> {
+            RecordingBatch batch = new RecordingBatch();
+            batches.add(batch);
+            return batch;
+        });
+        deltas.add(1L, 1);
+        Map<Long, Long> failed = deltas.snapshot();
+        assertThatThrownBy(() -> deltas.flush(failed, () -> {
+            throw new IllegalStateException("커밋 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        deltas.add(2L, 1);
+
+        // when
+        Map<Long, Long> retried = deltas.snapshot();
+        deltas.flush(retried, () -> {
+        });
+
+        // then
+        assertThat(retried).containsOnly(entry(1L, 1L), entry(2L, 1L));
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(0).released).isTrue();
+        assertThat(batches.get(1).released).isTrue();
+        assertThat(batches.get(2).released).isFalse();
+    }
+
+    private static final class RecordingBatch implements Batch {
+
+        private final List<Long> deltas = new ArrayList<>();
+        private boolean released;
+
+        @Override
+        public void append(long postId, long delta) {
+            deltas.add(delta);
+        }
+
+        @Override
+        public void release() {
+            released = true;
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RecentViewCacheRepositoryTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private RecentViewCacheRepository recentViewCacheRepository;
+
+    @BeforeEach
+    void init() {
+        // 30분 조회 시간대를 10분 단위 bucket 3개로 나눔
+        recentViewCacheRepository = new RecentViewCacheRepository(
+                now::get,
+                new SimpleMeterRegistry().counter("test"),
+                TimeUnit.MINUTES.toNanos(30),
+                3,
+                1000,
+                0.001
+        );
+    }
+
+    @Test
+    @DisplayName("최근 조회 - 조회 시간대 안에 같은 회원이 다시 조회하면 중복으로 판단한다.")
+    void duplicatedViewInWindowTest() {
+        // given
+        assertThat(recentViewCacheRepository.markViewed(1L, 1)).isTrue();
+
+        // when
+        now.addAndGet(TimeUnit.MINUTES.toNanos(15));
+
+        // then
+        assertThat(recentViewCacheRepository.markViewed(1L, 1)).isFalse();
+        assertThat(recentViewCacheRepository.markViewed(1L, 2)).isTrue();
+        assertThat(recentViewCacheRepository.markViewed(2L, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("최근 조회 - 조회 시간대가 지나면 다시 처음 조회로 판단한다.")
+    void viewAfterWindowTest() {
+        // given
+        assertThat(recentViewCacheRepository.markViewed(1L, 1)).isTrue();
+
+        // when
+        now.addAndGet(TimeUnit.MINUTES.toNanos(31));
+
+        // then
+        assertThat(recentViewCacheRepository.markViewed(1L, 1)).isTrue();
+    }
+
+}
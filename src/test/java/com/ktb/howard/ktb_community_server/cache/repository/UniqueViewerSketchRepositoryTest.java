@@ -0,0 +1,106 @@
+package com.ktb.howard.ktb_community_server.cache.repository;
+
+import com.ktb.howard.ktb_community_server.cache.repository.UniqueViewerSketchRepository.Sketch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UniqueViewerSketchRepositoryTest {
+
+    private final Map<Long, byte[]> storedRegisters = new HashMap<>();
+
+    private UniqueViewerSketchRepository createRepository(Executor loadExecutor) {
+        return new UniqueViewerSketchRepository(
+                postId -> Optional.ofNullable(storedRegisters.get(postId)),
+                loadExecutor,
+                new SimpleMeterRegistry(),
+                1000
+        );
+    }
+
+    @Test
+    @DisplayName("순 조회자 스케치 - 캐시에 없던 게시글은 DB에 저장된 레지스터를 병합하여 추정한다.")
+    void loadStoredRegistersOnMissTest() {
+        // given
+        UniqueViewerSketchRepository previous = createRepository(Runnable::run);
+        for (int memberId = 1; memberId <= 1000; memberId++) {
+            previous.addViewer(1L, memberId);
+        }
+        storedRegisters.put(1L, previous.drainPersistTargets().get(1L).toByteArray());
+        UniqueViewerSketchRepository repository = createRepository(Runnable::run);
+
+        // when
+        repository.addViewer(1L, 1001);
+
+        // then
+        assertThat(repository.estimate(1L)).isBetween(950L, 1050L);
+    }
+
+    @Test
+    @DisplayName("순 조회자 스케치 - 꺼낸 스케치는 새로 조회되기 전까지 다시 저장 대상이 되지 않는다.")
+    void drainPersistTargetsTest() {
+        // given
+        UniqueViewerSketchRepository repository = createRepository(Runnable::run);
+        repository.addViewer(1L, 1);
+        repository.addViewer(2L, 1);
+
+        // when
+        Map<Long, Sketch> first = repository.drainPersistTargets();
+        Map<Long, Sketch> second = repository.drainPersistTargets();
+        repository.addViewer(1L, 1);
+        Map<Long, Sketch> duplicated = repository.drainPersistTargets();
+        repository.addViewer(1L, 2);
+        Map<Long, Sketch> added = repository.drainPersistTargets();
+
+        // then
+        assertThat(first).containsOnlyKeys(1L, 2L);
+        assertThat(second).isEmpty();
+        assertThat(duplicated).isEmpty();
+        assertThat(added).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("순 조회자 스케치 - 저장된 레지스터와 병합하지 못한 스케치는 병합할 때까지 저장 대상으로 남는다.")
+    void unmergedSketchRemainsPersistTargetTest() {
+        // given - 적재 요청을 실행하지 않음
+        UniqueViewerSketchRepository repository = createRepository(command -> { });
+        repository.addViewer(1L, 1);
+
+        // when
+        Map<Long, Sketch> first = repository.drainPersistTargets();
+        Map<Long, Sketch> second = repository.drainPersistTargets();
+        second.get(1L).markMerged();
+        Map<Long, Sketch> third = repository.drainPersistTargets();
+
+        // then
+        assertThat(first).containsOnlyKeys(1L);
+        assertThat(second).containsOnlyKeys(1L);
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순 조회자 스케치 - 저장에 실패한 스케치는 다음 주기에 다시 저장 대상이 된다.")
+    void markUnpersistedTest() {
+        // given
+        UniqueViewerSketchRepository repository = createRepository(Runnable::run);
+        repository.addViewer(1L, 1);
+        Map<Long, Sketch> failed = repository.drainPersistTargets();
+
+        // when
+        repository.markUnpersisted(failed);
+        Map<Long, Sketch> retried = repository.drainPersistTargets();
+
+        // then
+        assertThat(retried).containsOnlyKeys(1L);
+        assertThat(retried.get(1L).toByteArray()).isEqualTo(failed.get(1L).toByteArray());
+        assertThat(repository.drainPersistTargets()).isEmpty();
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.ktb.howard.ktb_community_server.cache.sketch;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    @Test
+    @DisplayName("순 조회자 추정 - 같은 원소를 반복해서 넣어도 추정값은 서로 다른 원소 수에 가깝다.")
+    void estimateDistinctTest() {
+        // given
+        HyperLogLog hll = new HyperLogLog();
+
+        // when
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < 100_000; i++) {
+                hll.offer(HASH_FUNCTION.hashInt(i).asLong());
+            }
+        }
+
+        // then
+        assertThat(hll.estimate()).isCloseTo(100_000L, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName("순 조회자 추정 - 원소가 적을 때도 정확하게 추정한다.")
+    void estimateSmallTest() {
+        // given
+        HyperLogLog hll = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            hll.offer(HASH_FUNCTION.hashInt(i).asLong());
+        }
+
+        // then
+        assertThat(new HyperLogLog().estimate()).isZero();
+        assertThat(hll.estimate()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("순 조회자 추정 - 병합한 스케치는 두 집합의 합집합 크기를 추정한다.")
+    void mergeTest() {
+        // given
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 60_000; i++) {
+            first.offer(HASH_FUNCTION.hashInt(i).asLong());
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            second.offer(HASH_FUNCTION.hashInt(i).asLong());
+        }
+
+        // when
+        first.merge(second.toByteArray());
+
+        // then
+        assertThat(first.estimate()).isCloseTo(100_000L, withinPercentage(5));
+    }
+
+}
@@ -2,11 +2,13 @@ package com.ktb.howard.ktb_community_server.comment.service.integration;
 
 import com.ktb.howard.ktb_community_server.comment.domain.Comment;
 import com.ktb.howard.ktb_community_server.comment.dto.CommentResponseDto;
+import com.ktb.howard.ktb_community_server.comment.dto.CommentTreeResponseDto;
 import com.ktb.howard.ktb_community_server.comment.dto.CreateCommentResponseDto;
 import com.ktb.howard.ktb_community_server.comment.repository.CommentRepository;
 import com.ktb.howard.ktb_community_server.comment.service.CommentService;
 import com.ktb.howard.ktb_community_server.member.domain.Member;
 import com.ktb.howard.ktb_community_server.member.repository.MemberRepository;
+import com.ktb.howard.ktb_community_server.pagination.dto.CursorPageResponseDto;
 import com.ktb.howard.ktb_community_server.post.domain.Post;
 import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -154,10 +156,11 @@ class CommentServiceTest {
         }
 
         // when
-        List<CommentResponseDto> comments = commentService.getComments(post.getId(), 0L, 3);
+        CursorPageResponseDto<CommentResponseDto> comments = commentService.getComments(post.getId(), null, 3);
 
         // then
-        assertThat(comments).hasSize(3)
+        assertThat(comments.hasNext()).isTrue();
+        assertThat(comments.contents()).hasSize(3)
                 .extracting(
                         "commentId",
                         "content",
@@ -191,7 +194,7 @@ class CommentServiceTest {
     }
 
     @Test
-    @DisplayName("댓글 목록 조회 - 커서의 값이 0이 아닌 경우, 해당 커서 이후의 값을 조회하여 반환한다.")
+    @DisplayName("댓글 목록 조회 - 커서가 주어진 경우, 해당 커서 이후의 값을 조회하여 반환한다.")
     void getCommentsWithCursorTest() throws InterruptedException {
         // given
         Member writer = Member.builder()
@@ -218,11 +221,14 @@ class CommentServiceTest {
             Thread.sleep(500);
         }
 
+        // 16번째 댓글까지 조회한 뒤 발급받은 커서
+        String nextCursor = commentService.getComments(post.getId(), null, 4).nextCursor();
+
         // when
-        List<CommentResponseDto> comments = commentService.getComments(post.getId(), commentList.get(15).getId(), 3);
+        CursorPageResponseDto<CommentResponseDto> comments = commentService.getComments(post.getId(), nextCursor, 3);
 
         // then
-        assertThat(comments).hasSize(3)
+        assertThat(comments.contents()).hasSize(3)
                 .extracting(
                         "commentId",
                         "content",
@@ -255,6 +261,48 @@ class CommentServiceTest {
                 );
     }
 
+    @Test
+    @DisplayName("댓글 트리 조회 - 부모 댓글마다 전체 대댓글 수와 최근 대댓글 미리보기를 함께 반환한다.")
+    void getCommentTreeTest() throws InterruptedException {
+        // given
+        List<Comment> replies = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Comment reply = Comment.builder()
+                    .post(prePost)
+                    .member(preMember)
+                    .parentComment(preParentComment)
+                    .content("테스트용 대댓글 " + i)
+                    .build();
+            replies.add(reply);
+            commentRepository.save(reply);
+            Thread.sleep(500);
+        }
+        Comment rootWithoutReply = Comment.builder()
+                .post(prePost)
+                .member(preMember)
+                .content("테스트용 댓글2")
+                .build();
+        commentRepository.save(rootWithoutReply);
+
+        // when
+        CursorPageResponseDto<CommentTreeResponseDto> tree = commentService.getCommentTree(prePost.getId(), null, 10, 2);
+
+        // then
+        assertThat(tree.contents()).hasSize(2)
+                .extracting("comment.commentId", "replyCount", "hasMoreReplies")
+                .containsExactly(
+                        tuple(rootWithoutReply.getId(), 0L, false),
+                        tuple(preParentComment.getId(), 4L, true)
+                );
+        assertThat(tree.contents().get(0).replies()).isEmpty();
+        assertThat(tree.contents().get(1).replies())
+                .extracting("commentId", "content", "writerInfo.nickname")
+                .containsExactly(
+                        tuple(replies.get(3).getId(), replies.get(3).getContent(), preMember.getNickname()),
+                        tuple(replies.get(2).getId(), replies.get(2).getContent(), preMember.getNickname())
+                );
+    }
+
     @Test
     @DisplayName("댓글 수정 성공 - 요청한 댓글이 존재하는 경우, 요청된 본문으로 댓글의 내용을 수정한다.")
     void updateCommentSuccessTest() {
@@ -1,5 +1,6 @@
 package com.ktb.howard.ktb_community_server.comment.service.unit;
 
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
 import com.ktb.howard.ktb_community_server.comment.domain.Comment;
 import com.ktb.howard.ktb_community_server.comment.dto.CreateCommentResponseDto;
 import com.ktb.howard.ktb_community_server.comment.repository.CommentRepository;
@@ -7,6 +8,7 @@ import com.ktb.howard.ktb_community_server.comment.service.CommentService;
 import com.ktb.howard.ktb_community_server.member.domain.Member;
 import com.ktb.howard.ktb_community_server.member.repository.MemberRepository;
 import com.ktb.howard.ktb_community_server.post.domain.Post;
+import com.ktb.howard.ktb_community_server.post.exception.PostNotFoundException;
 import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +36,9 @@ public class CommentServiceTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    CountCache commentCountCache;
+
     @InjectMocks
     CommentService commentService;
 
@@ -42,9 +49,9 @@ public class CommentServiceTest {
     @BeforeEach
     void init() {
         mockPost = mock(Post.class);
-        when(mockPost.getId()).thenReturn(1L);
+        lenient().when(mockPost.getId()).thenReturn(1L);
         mockMember = mock(Member.class);
-        when(mockMember.getId()).thenReturn(1);
+        lenient().when(mockMember.getId()).thenReturn(1);
     }
 
     @Test
@@ -56,6 +63,7 @@ public class CommentServiceTest {
         Long parentCommentId = null;
         String content = "테스트용 댓글";
 
+        when(postRepository.existsById(postId)).thenReturn(true);
         when(postRepository.getReferenceById(postId)).thenReturn(mockPost);
         when(memberRepository.getReferenceById(memberId.longValue())).thenReturn(mockMember);
         when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
@@ -79,7 +87,49 @@ public class CommentServiceTest {
         verify(memberRepository).getReferenceById(memberId.longValue());
         verify(commentRepository, never()).getReferenceById(anyLong());
         verify(commentRepository).save(any(Comment.class));
-        verify(mockPost).increaseCommentCount();
+        verify(commentCountCache).increaseCount(postId);
+    }
+
+    @Test
+    @DisplayName("댓글 생성 - 존재하지 않거나 삭제된 게시글에는 댓글을 생성하지 않는다.")
+    void createCommentOnMissingPostTest() {
+        // given
+        Long postId = 1L;
+        Integer memberId = 1;
+
+        when(postRepository.existsById(postId)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> commentService.createComment(postId, memberId, null, "테스트용 댓글"))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(commentRepository, never()).save(any(Comment.class));
+        verify(commentCountCache, never()).increaseCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 생성 - 트랜잭션이 커밋된 이후에만 댓글 수를 증가시킨다.")
+    void increaseCommentCountAfterCommitTest() {
+        // given
+        Long postId = 1L;
+        Integer memberId = 1;
+
+        when(postRepository.existsById(postId)).thenReturn(true);
+        when(postRepository.getReferenceById(postId)).thenReturn(mockPost);
+        when(memberRepository.getReferenceById(memberId.longValue())).thenReturn(mockMember);
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            commentService.createComment(postId, memberId, null, "테스트용 댓글");
+
+            // then
+            verify(commentCountCache, never()).increaseCount(anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(commentCountCache).increaseCount(postId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
 }
@@ -1,13 +1,32 @@
 package com.ktb.howard.ktb_community_server.image.service;
 
+import com.ktb.howard.ktb_community_server.image.domain.Image;
+import com.ktb.howard.ktb_community_server.image.domain.ImageStatus;
+import com.ktb.howard.ktb_community_server.image.domain.ImageType;
+import com.ktb.howard.ktb_community_server.image.dto.PersistImageRequestDto;
 import com.ktb.howard.ktb_community_server.image.repository.ImageRepository;
+import com.ktb.howard.ktb_community_server.infra.aws.s3.exception.FileStorageException;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.service.S3Service;
+import com.ktb.howard.ktb_community_server.member.domain.Member;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ImageServiceTest {
@@ -25,6 +44,157 @@ class ImageServiceTest {
     void init() {
         ReflectionTestUtils.setField(imageService, "bucketName", "test-bucket");
         ReflectionTestUtils.setField(imageService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(imageService, "moveTimeoutMs", 100L);
+    }
+
+    @Test
+    @DisplayName("이미지 영속화 실패 - 복사가 하나라도 실패하면 성공한 복사본만 지우고 원본은 남긴다.")
+    void persistImagesCopyFailureTest() {
+        // given
+        givenReservedImage(1L, "a.jpeg");
+        givenReservedImage(2L, "b.jpeg");
+        when(s3Service.copyObjectAsync("tmp/posts/a.jpeg", "posts/a.jpeg"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(s3Service.copyObjectAsync("tmp/posts/b.jpeg", "posts/b.jpeg"))
+                .thenReturn(CompletableFuture.failedFuture(new FileStorageException("copy failed")));
+        when(s3Service.deleteObjectAsync(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when // then
+        assertThatThrownBy(() -> imageService.persistImages(requests(1L, 2L), mock(Member.class), 10L))
+                .isInstanceOf(FileStorageException.class)
+                .hasMessage("copy failed");
+        verify(s3Service).deleteObjectAsync("posts/a.jpeg");
+        verify(s3Service, never()).deleteObjectAsync("posts/b.jpeg");
+        verify(s3Service, never()).deleteObjectAsync("tmp/posts/a.jpeg");
+        verify(s3Service, never()).deleteObjectAsync("tmp/posts/b.jpeg");
+    }
+
+    @Test
+    @DisplayName("이미지 영속화 실패 - 복사가 제한 시간 안에 끝나지 않으면 실패하고, 뒤늦게 끝난 복사본을 지운다.")
+    void persistImagesCopyTimeoutTest() {
+        // given
+        givenReservedImage(1L, "a.jpeg");
+        CompletableFuture<Void> copy = new CompletableFuture<>();
+        when(s3Service.copyObjectAsync("tmp/posts/a.jpeg", "posts/a.jpeg")).thenReturn(copy);
+        when(s3Service.deleteObjectAsync(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        assertThatThrownBy(() -> imageService.persistImages(requests(1L), mock(Member.class), 10L))
+                .isInstanceOf(FileStorageException.class);
+        verify(s3Service, never()).deleteObjectAsync(anyString());
+        copy.complete(null);
+
+        // then
+        verify(s3Service).deleteObjectAsync("posts/a.jpeg");
+        verify(s3Service, never()).deleteObjectAsync("tmp/posts/a.jpeg");
+    }
+
+    @Test
+    @DisplayName("이미지 영속화 실패 - 트랜잭션 안에서 시간 초과로 롤백되면, 뒤늦게 끝난 복사본을 한 번만 지운다.")
+    void persistImagesCopyTimeoutRollbackTest() {
+        // given
+        givenReservedImage(1L, "a.jpeg");
+        CompletableFuture<Void> copy = new CompletableFuture<>();
+        when(s3Service.copyObjectAsync("tmp/posts/a.jpeg", "posts/a.jpeg")).thenReturn(copy);
+        when(s3Service.deleteObjectAsync(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThatThrownBy(() -> imageService.persistImages(requests(1L), mock(Member.class), 10L))
+                    .isInstanceOf(FileStorageException.class);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            copy.complete(null);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(s3Service, times(1)).deleteObjectAsync("posts/a.jpeg");
+        verify(s3Service, never()).deleteObjectAsync("tmp/posts/a.jpeg");
+    }
+
+    @Test
+    @DisplayName("이미지 영속화 - 트랜잭션이 커밋되면 원본만 지운다.")
+    void persistImagesCommitTest() {
+        // given
+        givenReservedImage(1L, "a.jpeg");
+        givenCopySucceeds();
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        verify(s3Service).deleteObjectAsync("tmp/posts/a.jpeg");
+        verify(s3Service, never()).deleteObjectAsync("posts/a.jpeg");
+    }
+
+    @Test
+    @DisplayName("이미지 영속화 - 트랜잭션이 롤백되면 복사본만 지운다.")
+    void persistImagesRollbackTest() {
+        // given
+        givenReservedImage(1L, "a.jpeg");
+        givenCopySucceeds();
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        verify(s3Service).deleteObjectAsync("posts/a.jpeg");
+        verify(s3Service, never()).deleteObjectAsync("tmp/posts/a.jpeg");
+    }
+
+    @Test
+    @DisplayName("이미지 영속화 - 트랜잭션의 커밋 여부를 알 수 없으면 원본과 복사본을 모두 남긴다.")
+    void persistImagesUnknownStatusTest() {
+        // given
+        givenReservedImage(1L, "a.jpeg");
+        givenCopySucceeds();
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_UNKNOWN);
+
+        // then
+        verify(s3Service, never()).deleteObjectAsync(anyString());
+    }
+
+    private void givenReservedImage(Long imageId, String fileName) {
+        Image image = Image.builder()
+                .imageType(ImageType.POST)
+                .bucketName("test-bucket")
+                .region("ap-northeast-2")
+                .objectKey("tmp/posts/" + fileName)
+                .fileName(fileName)
+                .fileSize(1024L)
+                .mimeType("image/jpeg")
+                .sequence(1)
+                .status(ImageStatus.RESERVED)
+                .build();
+        when(imageRepository.findById(imageId)).thenReturn(Optional.of(image));
+    }
+
+    private void givenCopySucceeds() {
+        when(s3Service.copyObjectAsync(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        lenient().when(s3Service.deleteObjectAsync(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    private List<PersistImageRequestDto> requests(Long... imageIds) {
+        return Arrays.stream(imageIds)
+                .map(imageId -> new PersistImageRequestDto(imageId, 1))
+                .toList();
+    }
+
+    // 트랜잭션 안에서 이미지를 영속화한 뒤 주어진 상태로 트랜잭션을 끝냄
+    private void completeTransaction(int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            imageService.persistImages(requests(1L), mock(Member.class), 10L);
+            verify(s3Service, never()).deleteObjectAsync(anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     // TODO : 추후 관련 단위 테스트 작성 + 통합 테스트와의 분리도 필요함
@@ -1,19 +1,21 @@
 package com.ktb.howard.ktb_community_server.infra.aws.s3.service;
 
+import com.ktb.howard.ktb_community_server.cache.repository.PresignedUrlCacheRepository;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.dto.ObjectMetadata;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.dto.PresignedUrl;
 import com.ktb.howard.ktb_community_server.infra.aws.s3.exception.FileStorageException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -27,6 +29,7 @@ import java.net.URL;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,14 +41,20 @@ class S3ServiceTest {
     @Mock
     private S3Client s3Client;
 
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
     @Mock
     private S3Presigner s3Presigner;
 
-    @InjectMocks
     private S3Service s3Service;
 
     @BeforeEach
     void init() {
+        PresignedUrlCacheRepository presignedUrlCacheRepository = new PresignedUrlCacheRepository(
+                new SimpleMeterRegistry(), 10, 0.5, 100
+        );
+        s3Service = new S3Service(s3Client, s3AsyncClient, s3Presigner, presignedUrlCacheRepository);
         ReflectionTestUtils.setField(s3Service, "bucket", "test-bucket");
         ReflectionTestUtils.setField(s3Service, "getTtlMin", 10);
         ReflectionTestUtils.setField(s3Service, "putTtlMin", 10);
@@ -131,6 +140,48 @@ class S3ServiceTest {
         assertThat(capturedRequest.getObjectRequest().key()).isEqualTo(objectKey);
     }
 
+    @Test
+    @DisplayName("Get Presigned URL 재사용 - 남은 유효 시간이 충분한 URL이 있으면 다시 서명하지 않고 같은 URL을 반환한다.")
+    void createGetObjectPresignedUrlReuseTest() throws Exception {
+        // given
+        String objectKey = "test-object-key.jpeg";
+        URL testUrl = new URI("https://test-bucket.s3.amazonaws.com/test-upload.jpg?presigned").toURL();
+        Instant expiration = Instant.now().plus(Duration.ofMinutes(10));
+        PresignedGetObjectRequest mockPresignedRequest = mock(PresignedGetObjectRequest.class);
+        when(mockPresignedRequest.url()).thenReturn(testUrl);
+        when(mockPresignedRequest.expiration()).thenReturn(expiration);
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(mockPresignedRequest);
+
+        // when
+        PresignedUrl first = s3Service.createGetObjectPresignedUrl(objectKey);
+        PresignedUrl second = s3Service.createGetObjectPresignedUrl(objectKey);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("Get Presigned URL 재발급 - 남은 유효 시간이 기준보다 짧은 URL은 재사용하지 않고 새로 서명한다.")
+    void createGetObjectPresignedUrlResignWhenExpiringTest() throws Exception {
+        // given
+        String objectKey = "test-object-key.jpeg";
+        URL testUrl = new URI("https://test-bucket.s3.amazonaws.com/test-upload.jpg?presigned").toURL();
+        // 남은 유효 시간이 get-ttl-min(10분) x 0.5 보다 짧은 URL
+        Instant expiration = Instant.now().plus(Duration.ofMinutes(3));
+        PresignedGetObjectRequest mockPresignedRequest = mock(PresignedGetObjectRequest.class);
+        when(mockPresignedRequest.url()).thenReturn(testUrl);
+        when(mockPresignedRequest.expiration()).thenReturn(expiration);
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(mockPresignedRequest);
+
+        // when
+        s3Service.createGetObjectPresignedUrl(objectKey);
+        s3Service.createGetObjectPresignedUrl(objectKey);
+
+        // then
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
     @Test
     @DisplayName("Get Presigned URL 발급 실패 - S3 통신 중 오류가 발생하면 FileStorageException을 반환한다.")
     void createGetObjectPresignedUrlFailTest() {
@@ -213,59 +264,66 @@ class S3ServiceTest {
     }
 
     @Test
-    @DisplayName("Object 이동 성공 - sourceObjectKey -> destinationObjectKey로 복사 후 sourceObjectKey 위치는 삭제한다.")
-    void moveObjectSuccessTest() {
+    @DisplayName("비동기 Object 복사 성공 - sourceObjectKey -> destinationObjectKey로 복사하고, 원본은 삭제하지 않는다.")
+    void copyObjectAsyncSuccessTest() {
         // given
         String sourceObjectKey = "test-source-object-key.jpeg";
         String destinationObjectKey = "test-destination-object-key.jpeg";
+        when(s3AsyncClient.copyObject(any(CopyObjectRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CopyObjectResponse.builder().build()));
 
         // when
-        s3Service.moveObject(sourceObjectKey, destinationObjectKey);
+        CompletableFuture<Void> result = s3Service.copyObjectAsync(sourceObjectKey, destinationObjectKey);
 
         // then
-        // copyObject가 올바른 인자와 함께 호출되었는지 검증
+        assertThat(result).isCompletedWithValue(null);
         ArgumentCaptor<CopyObjectRequest> copyCaptor = ArgumentCaptor.forClass(CopyObjectRequest.class);
-        verify(s3Client).copyObject(copyCaptor.capture());
+        verify(s3AsyncClient).copyObject(copyCaptor.capture());
         assertThat(copyCaptor.getValue().sourceKey()).isEqualTo(sourceObjectKey);
         assertThat(copyCaptor.getValue().destinationKey()).isEqualTo(destinationObjectKey);
-        // deleteObject가 올바른 인자와 함께 호출되었는지 검증
-        ArgumentCaptor<DeleteObjectRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
-        verify(s3Client).deleteObject(deleteCaptor.capture());
-        assertThat(deleteCaptor.getValue().key()).isEqualTo(sourceObjectKey);
+        verify(s3AsyncClient, never()).deleteObject(any(DeleteObjectRequest.class));
     }
 
     @Test
-    @DisplayName("Object 이동 성공 - sourceObjectKey == destinationObjectKey 인 경우 이동하지 않고 바로 종료한다.")
-    void moveObjectSuccessWhenSameObjectKeyTest() {
+    @DisplayName("비동기 Object 복사 성공 - 복사한 objectKey에 대해 발급해 둔 Get Presigned URL은 재사용하지 않는다.")
+    void copyObjectAsyncInvalidatesPresignedUrlTest() throws Exception {
         // given
         String sourceObjectKey = "test-source-object-key.jpeg";
-        String destinationObjectKey = "test-source-object-key.jpeg";
+        String destinationObjectKey = "test-destination-object-key.jpeg";
+        URL testUrl = new URI("https://test-bucket.s3.amazonaws.com/test-upload.jpg?presigned").toURL();
+        PresignedGetObjectRequest mockPresignedRequest = mock(PresignedGetObjectRequest.class);
+        when(mockPresignedRequest.url()).thenReturn(testUrl);
+        when(mockPresignedRequest.expiration()).thenReturn(Instant.now().plus(Duration.ofMinutes(10)));
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(mockPresignedRequest);
+        when(s3AsyncClient.copyObject(any(CopyObjectRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CopyObjectResponse.builder().build()));
+        s3Service.createGetObjectPresignedUrl(destinationObjectKey);
 
         // when
-        s3Service.moveObject(sourceObjectKey, destinationObjectKey);
+        s3Service.copyObjectAsync(sourceObjectKey, destinationObjectKey).join();
+        s3Service.createGetObjectPresignedUrl(destinationObjectKey);
 
         // then
-        verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
-        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
     }
 
     @Test
-    @DisplayName("Object 이동 실패 - S3 통신 중 오류가 발생하면 FileStorageException을 반환한다.")
-    void moveObjectFailTest() {
+    @DisplayName("비동기 Object 복사 실패 - S3 통신 중 오류가 발생하면 FileStorageException으로 완료된다.")
+    void copyObjectAsyncFailTest() {
         // given
         String sourceObjectKey = "test-source-object-key.jpeg";
         String destinationObjectKey = "test-destination-object-key.jpeg";
-        when(s3Client.copyObject(any(CopyObjectRequest.class)))
-                .thenThrow(
-                        SdkException.builder()
-                                .message("Object 복사 요청처리 실패. FileStorage 상태를 확인하세요.")
-                                .build()
-                );
+        when(s3AsyncClient.copyObject(any(CopyObjectRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(SdkException.builder().message("copy failed").build()));
 
-        // when // then
-        assertThatThrownBy(() -> s3Service.moveObject(sourceObjectKey, destinationObjectKey))
-                .isInstanceOf(FileStorageException.class)
-                .hasMessage("Object 이동 요청처리 실패. FileStorage 상태를 확인하세요.");
+        // when
+        CompletableFuture<Void> result = s3Service.copyObjectAsync(sourceObjectKey, destinationObjectKey);
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(FileStorageException.class)
+                .hasRootCauseMessage("copy failed");
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.ktb.howard.ktb_community_server.pagination;
+
+import com.ktb.howard.ktb_community_server.pagination.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 - 인코딩한 토큰을 디코딩하면 동일한 (createdAt, id) 값을 얻는다.")
+    void encodeAndDecodeTest() {
+        // given
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 10, 1, 12, 30, 15, 123_456_789), 42L);
+
+        // when
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서 디코딩 - 토큰이 없거나 0인 경우, 첫 페이지 요청으로 간주하여 null을 반환한다.")
+    void decodeFirstPageTest() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode("0")).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 디코딩 - 올바르지 않은 토큰인 경우, 예외를 반환한다.")
+    void decodeInvalidTokenTest() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+}
@@ -1,13 +1,13 @@
 package com.ktb.howard.ktb_community_server.post.service;
 
-import com.ktb.howard.ktb_community_server.cache.repository.LikeCountCacheRepository;
-import com.ktb.howard.ktb_community_server.cache.repository.ViewCountCacheRepository;
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
 import com.ktb.howard.ktb_community_server.image.domain.Image;
 import com.ktb.howard.ktb_community_server.image.domain.ImageStatus;
 import com.ktb.howard.ktb_community_server.image.domain.ImageType;
 import com.ktb.howard.ktb_community_server.image.repository.ImageRepository;
 import com.ktb.howard.ktb_community_server.member.domain.Member;
 import com.ktb.howard.ktb_community_server.member.repository.MemberRepository;
+import com.ktb.howard.ktb_community_server.pagination.dto.CursorPageResponseDto;
 import com.ktb.howard.ktb_community_server.post.domain.Post;
 import com.ktb.howard.ktb_community_server.post.dto.CreatePostResponseDto;
 import com.ktb.howard.ktb_community_server.post.dto.GetPostsResponseDto;
@@ -24,7 +24,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -47,16 +46,20 @@ class PostServiceTest {
     ImageRepository imageRepository;
 
     @Autowired
-    LikeCountCacheRepository likeCountCacheRepository;
+    CountCache likeCountCache;
 
     @Autowired
-    ViewCountCacheRepository viewCountCacheRepository;
+    CountCache viewCountCache;
+
+    @Autowired
+    CountCache commentCountCache;
 
     @BeforeEach
     void init() {
-        // 좋아요, 조회 수 정보 캐시 초기화
-        likeCountCacheRepository.clearCache();
-        viewCountCacheRepository.clearCache();
+        // 좋아요, 조회, 댓글 수 정보 캐시 초기화
+        likeCountCache.clearCache();
+        viewCountCache.clearCache();
+        commentCountCache.clearCache();
     }
 
     @Test
@@ -141,10 +144,11 @@ class PostServiceTest {
         postRepository.save(post5);
 
         // when
-        List<GetPostsResponseDto> posts = postService.getPosts(0L, 3);
+        CursorPageResponseDto<GetPostsResponseDto> posts = postService.getPosts(writer.getId(), null, 3);
 
         // then
-        assertThat(posts).hasSize(3)
+        assertThat(posts.hasNext()).isTrue();
+        assertThat(posts.contents()).hasSize(3)
                 .extracting(
                         "title",
                         "likeCount",
@@ -183,10 +187,11 @@ class PostServiceTest {
                                 post2.getWriter().getNickname()
                         )
                 );
+        assertThat(posts.contents()).extracting("isLiked").containsOnly(false);
     }
 
     @Test
-    @DisplayName("게시글 목록 조회 - 커서의 값이 0이 아닌 경우, 해당 커서 이후의 값을 조회하여 반환한다.")
+    @DisplayName("게시글 목록 조회 - 커서가 주어진 경우, 해당 커서 이후의 값을 조회하여 반환한다.")
     void getPostsWithCursorTest() throws InterruptedException {
         // given
         Member writer = Member.builder()
@@ -231,11 +236,15 @@ class PostServiceTest {
         post5.updateDeletedAt(LocalDateTime.now());
         postRepository.save(post5);
 
+        String nextCursor = postService.getPosts(writer.getId(), null, 3).nextCursor();
+
         // when
-        List<GetPostsResponseDto> posts = postService.getPosts(post2.getId(), 3);
+        CursorPageResponseDto<GetPostsResponseDto> posts = postService.getPosts(writer.getId(), nextCursor, 3);
 
         // then
-        assertThat(posts).hasSize(1)
+        assertThat(posts.hasNext()).isFalse();
+        assertThat(posts.nextCursor()).isNull();
+        assertThat(posts.contents()).hasSize(1)
                 .extracting(
                         "title",
                         "likeCount",
@@ -0,0 +1,137 @@
+package com.ktb.howard.ktb_community_server.reconcile.service;
+
+import com.ktb.howard.ktb_community_server.cache.journal.CountDeltaJournal;
+import com.ktb.howard.ktb_community_server.cache.repository.CountCache;
+import com.ktb.howard.ktb_community_server.post.dto.CountInfoDto;
+import com.ktb.howard.ktb_community_server.post.repository.PostCountBulkRepository.CountColumn;
+import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
+import com.ktb.howard.ktb_community_server.reconcile.dto.LikeCountSnapshotDto;
+import com.ktb.howard.ktb_community_server.reconcile.repository.LikeCountReconcileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountReconcileServiceTest {
+
+    @Mock
+    LikeCountReconcileRepository likeCountReconcileRepository;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path journalDirectory;
+
+    private CountDeltaJournal countDeltaJournal;
+    private CountCache likeCountCache;
+    private LikeCountReconcileService likeCountReconcileService;
+
+    @BeforeEach
+    void init() throws IOException {
+        countDeltaJournal = new CountDeltaJournal(journalDirectory.toString(), 21 * 64, 100);
+        likeCountCache = new CountCache(
+                "likeCountCache",
+                CountColumn.LIKE_COUNT,
+                postRepository,
+                countDeltaJournal,
+                transactionManager,
+                eventPublisher,
+                new SimpleMeterRegistry(),
+                1000
+        );
+        likeCountReconcileService = new LikeCountReconcileService(
+                likeCountReconcileRepository,
+                likeCountCache,
+                new SimpleMeterRegistry(),
+                500
+        );
+    }
+
+    @AfterEach
+    void close() {
+        countDeltaJournal.close();
+    }
+
+    @Test
+    @DisplayName("좋아요 수 검증 - 캐시의 좋아요 수가 실제 좋아요 수와 다르면 바로잡는다.")
+    void correctCacheDriftTest() {
+        // given
+        loadCachedLikeCount(1L, 7);
+        when(likeCountReconcileRepository.findLikeCounts(anyLong(), anyInt()))
+                .thenReturn(List.of(new LikeCountSnapshotDto(1L, 5, 5L)));
+
+        // when
+        likeCountReconcileService.reconcileNextChunk();
+
+        // then
+        assertThat(likeCountCache.getIfPresent(1L)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 검증 - 실제 좋아요 수를 읽은 뒤 보정 전에 동기화가 커밋되면 캐시를 덮어쓰지 않는다.")
+    void keepFlushedCountAfterReadTest() {
+        // given
+        loadCachedLikeCount(1L, 5);
+        when(likeCountReconcileRepository.findLikeCounts(anyLong(), anyInt())).thenAnswer(invocation -> {
+            List<LikeCountSnapshotDto> chunk = List.of(new LikeCountSnapshotDto(1L, 5, 5L));
+            // 조회 직후 좋아요가 추가되고, 그 변화량의 동기화가 커밋됨
+            likeCountCache.increaseCount(1L);
+            likeCountCache.flush(likeCountCache.getPendingDeltas(), () -> { });
+            return chunk;
+        });
+
+        // when
+        likeCountReconcileService.reconcileNextChunk();
+
+        // then
+        assertThat(likeCountCache.hasPendingDelta(1L)).isFalse();
+        assertThat(likeCountCache.getIfPresent(1L)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 검증 - 아직 DB에 반영되지 않은 변화량이 있는 게시글은 바로잡지 않는다.")
+    void skipPendingDeltaTest() {
+        // given
+        loadCachedLikeCount(1L, 5);
+        likeCountCache.increaseCount(1L);
+        when(likeCountReconcileRepository.findLikeCounts(anyLong(), anyInt()))
+                .thenReturn(List.of(new LikeCountSnapshotDto(1L, 5, 6L)));
+
+        // when
+        likeCountReconcileService.reconcileNextChunk();
+
+        // then
+        verify(likeCountReconcileRepository, never()).updateLikeCount(anyLong(), anyInt(), anyLong());
+        assertThat(likeCountCache.getIfPresent(1L)).isEqualTo(6L);
+    }
+
+    private void loadCachedLikeCount(Long postId, int likeCount) {
+        when(postRepository.findPostCountInfosByIdIn(anyCollection()))
+                .thenReturn(List.of(new CountInfoDto(postId, likeCount, 0L, 0L)));
+        likeCountCache.get(postId);
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.ktb.howard.ktb_community_server.rollup.service;
+
+import com.ktb.howard.ktb_community_server.member.domain.Member;
+import com.ktb.howard.ktb_community_server.member.repository.MemberRepository;
+import com.ktb.howard.ktb_community_server.post.domain.Post;
+import com.ktb.howard.ktb_community_server.post.repository.PostRepository;
+import com.ktb.howard.ktb_community_server.rollup.dto.PostHourlyStatDto;
+import com.ktb.howard.ktb_community_server.rollup.repository.LogRollupRepository;
+import com.ktb.howard.ktb_community_server.rollup.repository.LogRollupRepository.RollupLog;
+import com.ktb.howard.ktb_community_server.view_log.dto.ViewLogEvent;
+import com.ktb.howard.ktb_community_server.view_log.repository.ViewLogBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Transactional
+@SpringBootTest
+class LogRollupServiceTest {
+
+    private static final LocalDateTime HOUR_10 = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final LocalDateTime HOUR_11 = HOUR_10.plusHours(1);
+
+    @Autowired
+    LogRollupRepository logRollupRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ViewLogBulkRepository viewLogBulkRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    // 스케줄러가 사용하는 빈과 관찰한 최대 로그 ID를 공유하지 않도록 테스트마다 새로 생성하며,
+    // 여러 chunk에 걸쳐 집계되도록 chunk 크기를 작게 둔다.
+    private LogRollupService logRollupService;
+    private Member member;
+    private Post post;
+
+    @BeforeEach
+    void init() {
+        logRollupService = new LogRollupService(logRollupRepository, transactionTemplate, 2, 100, 744);
+        member = Member.builder()
+                .email("test@example.com")
+                .password("Password12345!")
+                .nickname("test.park")
+                .build();
+        memberRepository.save(member);
+        post = Post.builder()
+                .writer(member)
+                .title("test title")
+                .content("test content")
+                .build();
+        postRepository.save(post);
+        // 이 테스트에서 기록한 로그만 집계되도록 집계 위치를 현재 최대 로그 ID로 옮김
+        for (RollupLog rollupLog : RollupLog.values()) {
+            logRollupRepository.lockWatermark(rollupLog);
+            logRollupRepository.updateWatermark(rollupLog, logRollupRepository.findMaxLogId(rollupLog));
+        }
+    }
+
+    @Test
+    @DisplayName("로그 집계 - 조회, 좋아요 로그를 게시글별 시간 단위로 집계한다")
+    void rollupHourlyBucketsTest() {
+        // given
+        saveViewLogs(post.getId(), HOUR_10.plusMinutes(5), HOUR_10.plusMinutes(30), HOUR_10.plusMinutes(59), HOUR_11);
+        saveViewLogs(post.getId() + 1, HOUR_10.plusMinutes(15));
+        saveLikeLog(post.getId(), "LIKE", HOUR_10.plusMinutes(10));
+        saveLikeLog(post.getId(), "LIKE", HOUR_11.plusMinutes(20));
+        saveLikeLog(post.getId(), "CANCEL", HOUR_11.plusMinutes(40));
+
+        // when
+        rollupUpToNow();
+
+        // then
+        assertThat(logRollupService.getHourlyStats(post.getId(), HOUR_10, HOUR_11.plusHours(1)))
+                .containsExactly(
+                        new PostHourlyStatDto(HOUR_10, 3L, 1L, 0L),
+                        new PostHourlyStatDto(HOUR_11, 1L, 1L, 1L)
+                );
+        for (RollupLog rollupLog : RollupLog.values()) {
+            assertThat(logRollupRepository.findWatermark(rollupLog)).isEqualTo(logRollupRepository.findMaxLogId(rollupLog));
+        }
+    }
+
+    @Test
+    @DisplayName("로그 집계 - 서버 시작 후 첫 실행에서는 집계할 상한만 기록하고 집계하지 않는다")
+    void firstRollupOnlyObservesTest() {
+        // given
+        saveViewLogs(post.getId(), HOUR_10.plusMinutes(5));
+
+        // when
+        long rolledUp = logRollupService.rollup(RollupLog.VIEW_LOG);
+
+        // then
+        assertThat(rolledUp).isZero();
+        assertThat(logRollupService.getHourlyStats(post.getId(), HOUR_10, HOUR_11)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그 집계 - 다시 실행해도 이미 집계한 로그는 두 번 더해지지 않는다")
+    void rerunDoesNotDoubleCountTest() {
+        // given
+        saveViewLogs(post.getId(), HOUR_10.plusMinutes(5), HOUR_10.plusMinutes(30), HOUR_10.plusMinutes(45));
+        saveLikeLog(post.getId(), "LIKE", HOUR_10.plusMinutes(10));
+        rollupUpToNow();
+
+        // when
+        long viewRolledUp = logRollupService.rollup(RollupLog.VIEW_LOG);
+        long likeRolledUp = logRollupService.rollup(RollupLog.LIKE_LOG);
+
+        // then
+        assertThat(viewRolledUp).isZero();
+        assertThat(likeRolledUp).isZero();
+        assertThat(logRollupService.getHourlyStats(post.getId(), HOUR_10, HOUR_11))
+                .containsExactly(new PostHourlyStatDto(HOUR_10, 3L, 1L, 0L));
+    }
+
+    @Test
+    @DisplayName("로그 집계 - 집계 이후 추가된 로그만 기존 시간 구간에 더한다")
+    void rollupOnlyNewLogsTest() {
+        // given
+        saveViewLogs(post.getId(), HOUR_10.plusMinutes(5), HOUR_10.plusMinutes(30));
+        rollupUpToNow();
+        saveViewLogs(post.getId(), HOUR_10.plusMinutes(50));
+
+        // when
+        rollupUpToNow();
+
+        // then
+        assertThat(logRollupService.getHourlyStats(post.getId(), HOUR_10, HOUR_11))
+                .containsExactly(new PostHourlyStatDto(HOUR_10, 3L, 0L, 0L));
+    }
+
+    // 첫 실행에서 관찰한 최대 로그 ID까지 다음 실행에서 집계하므로 두 번 실행
+    private void rollupUpToNow() {
+        for (int i = 0; i < 2; i++) {
+            for (RollupLog rollupLog : RollupLog.values()) {
+                logRollupService.rollup(rollupLog);
+            }
+        }
+    }
+
+    private void saveViewLogs(Long postId, LocalDateTime... createdAts) {
+        for (LocalDateTime createdAt : createdAts) {
+            viewLogBulkRepository.insertAll(List.of(new ViewLogEvent(postId, member.getId(), createdAt)));
+        }
+    }
+
+    private void saveLikeLog(Long postId, String type, LocalDateTime createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO like_log (member_id, post_id, type, created_at) VALUES (?, ?, ?, ?)",
+                member.getId(), postId, type, Timestamp.valueOf(createdAt)
+        );
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.ktb.howard.ktb_community_server.view_log.writer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 offer는 false를 반환하고, 비운 만큼 다시 넣을 수 있다")
+    void offerFailsWhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림된다")
+    void capacityRoundedUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1000).capacity()).isEqualTo(1024);
+        assertThat(new MpscRingBuffer<>(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣은 값을 하나의 소비자가 유실 없이 꺼낸다")
+    void concurrentProducers() throws InterruptedException {
+        int producers = 8;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        CountDownLatch done = new CountDownLatch(producers);
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(1)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            long[] sum = new long[1];
+            while (done.getCount() > 0 || buffer.size() > 0) {
+                buffer.drain(v -> sum[0] += v, 256);
+            }
+            assertThat(sum[0]).isEqualTo((long) producers * perProducer);
+        }
+    }
+
+}